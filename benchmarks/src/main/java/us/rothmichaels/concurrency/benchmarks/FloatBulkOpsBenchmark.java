@@ -0,0 +1,143 @@
+/*
+ * FloatBulkOpsBenchmark.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.rothmichaels.concurrency.buffers.Float2DBuffer;
+import us.rothmichaels.concurrency.buffers.FloatBuffer;
+
+/**
+ * Bulk operations on {@link FloatBuffer} compared with the hand 
+ * written locked loops they replace, and parallel against serial 
+ * reduction of a {@link Float2DBuffer}.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FloatBulkOpsBenchmark {
+
+	@Param({ "256", "4096", "262144" })
+	int size;
+	
+	FloatBuffer a;
+	FloatBuffer b;
+	Float2DBuffer channels;
+	
+	@Setup
+	public void setUp() {
+		a = new FloatBuffer(size);
+		b = new FloatBuffer(size);
+		a.fill(1f);
+		b.fill(0.5f);
+		channels = new Float2DBuffer(16, size);
+		channels.fill(1f);
+	}
+	
+	@Benchmark
+	public FloatBuffer mix() {
+		a.mix(b, 0.5f);
+		return a;
+	}
+	
+	@Benchmark
+	public FloatBuffer mixByHand() {
+		a.writeLock().lock();
+		b.readLock().lock();
+		float[] dst = a.getDataRef();
+		float[] src = b.getDataRef();
+		for (int i = 0, n = a.getSize(); i < n; ++i) {
+			dst[i] += 0.5f * src[i];
+		}
+		b.readLock().unlock();
+		a.writeLock().unlock();
+		return a;
+	}
+	
+	@Benchmark
+	public float sum() {
+		return a.sum();
+	}
+	
+	@Benchmark
+	public float sumByHand() {
+		a.readLock().lock();
+		float[] data = a.getDataRef();
+		float s = 0f;
+		for (int i = 0, n = a.getSize(); i < n; ++i) {
+			s += data[i];
+		}
+		a.readLock().unlock();
+		return s;
+	}
+	
+	@Benchmark
+	public float sum2D() {
+		return channels.sum();
+	}
+	
+	@Benchmark
+	public double parallelSum2D() {
+		return channels.parallelReduce(0.0, (row, data, from, to) -> {
+			double s = 0;
+			for (int i = from; i < to; ++i) {
+				s += data[i];
+			}
+			return s;
+		}, Double::sum);
+	}
+}
@@ -0,0 +1,226 @@
+/*
+ * Array2DBuffer.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * Uses a two dimensional array as internal storage for the buffer.
+ * 
+ * The buffer size is the length of the second dimension. Changing 
+ * the size clears the buffer, {@link #resize(int, int)} changes both 
+ * dimensions keeping the contents. The watermark and capacity apply 
+ * to every row.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ * @param <T> two dimensional array type
+ *
+ */
+public abstract class Array2DBuffer<T> extends ArrayBuffer<T> {
+
+	int firstDim;
+	
+	/**
+	 * @param buffer initial array, {@code dim1} rows of {@code dim2}
+	 * @param dim1 first dimension
+	 * @param dim2 second dimension (buffer size)
+	 * @param lock lock guarding the buffer
+	 */
+	protected Array2DBuffer(T buffer, int dim1, int dim2, ReadWriteLock lock) {
+		super(buffer, dim2, lock);
+		this.firstDim = dim1;
+	}
+	
+	/**
+	 * Create a new, zeroed, backing array.
+	 * 
+	 * @param dim1 first dimension
+	 * @param dim2 second dimension
+	 * @return the array
+	 */
+	protected abstract T newArray(int dim1, int dim2);
+	
+	/**
+	 * Zero part of one row. Caller must hold the write lock.
+	 * 
+	 * @param i row index
+	 * @param from first index to zero
+	 * @param to index after the last index to zero
+	 */
+	protected abstract void zeroRow(int i, int from, int to);
+
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.ArrayBuffer#newArray(int)
+	 */
+	@Override
+	protected T newArray(int size) {
+		return newArray(firstDim, size);
+	}
+	
+	/**
+	 * @return size of the first dimension
+	 */
+	public int getFirstDim() {
+		return firstDim;
+	}
+
+	/**
+	 * Zero part of every row.
+	 * 
+	 * @see us.rothmichaels.concurrency.buffers.ArrayBuffer#fill(int, int)
+	 */
+	@Override
+	protected void fill(int from, int to) {
+		for (int i = 0; i < firstDim; ++i) {
+			zeroRow(i, from, to);
+		}
+	}
+	
+	/**
+	 * Move every row to new row arrays.
+	 * 
+	 * @see us.rothmichaels.concurrency.buffers.ArrayBuffer#reallocate(int)
+	 */
+	@Override
+	void reallocate(int newCapacity) {
+		T tmp = newArray(firstDim, newCapacity);
+		Object[] src = (Object[]) buffer;
+		Object[] dst = (Object[]) tmp;
+		for (int i = 0; i < firstDim; ++i) {
+			System.arraycopy(src[i], 0, dst[i], 0, size);
+		}
+		buffer = tmp;
+		capacity = newCapacity;
+	}
+	
+	/**
+	 * Lock guarding one row. Holding a row lock allows access to 
+	 * that row's contents but not changing the size. 
+	 * 
+	 * By default every row is guarded by the whole buffer lock. 
+	 * 
+	 * @param i row index
+	 * @return lock for row {@code i}
+	 */
+	public ReadWriteLock rowLock(int i) {
+		if (i < 0 || i >= firstDim) {
+			throw new ArrayIndexOutOfBoundsException(i);
+		}
+		return this;
+	}
+	
+	/**
+	 * Clear one row of the buffer.
+	 * 
+	 * @param i row index
+	 */
+	public void clear(int i) {
+		Lock lock = rowLock(i).writeLock();
+		lock.lock();
+		zeroRow(i, 0, size);
+		lock.unlock();
+	}
+
+	/**
+	 * Change both dimensions, keeping the contents within the new 
+	 * dimensions. Elements exposed by growing read as zero.
+	 * 
+	 * Existing row arrays are kept when the new size fits the 
+	 * capacity, otherwise every row is reallocated with geometric 
+	 * growth as by {@link #setSize(int)} in 
+	 * {@link ArrayBuffer}. Removing or adding rows only copies 
+	 * row references and allocates the added rows.
+	 * 
+	 * @param dim1 new first dimension
+	 * @param dim2 new second dimension (buffer size)
+	 * @throws IllegalArgumentException if either dimension is negative
+	 */
+	@SuppressWarnings("unchecked")
+	public void resize(int dim1, int dim2) {
+		if (dim1 < 0 || dim2 < 0) {
+			throw new IllegalArgumentException("Size can't be negative.");
+		}
+		writeLock().lock();
+		try {
+			if (dim1 < firstDim) {
+				buffer = (T) Arrays.copyOf((Object[]) buffer, dim1);
+				firstDim = dim1;
+			}
+			if (dim2 > capacity) {
+				reallocate(grownCapacity(dim2));
+			} else if (dim2 > size && !isLazyClear()) {
+				fill(size, dim2);
+			}
+			if (dim1 > firstDim) {
+				Object[] rows = Arrays.copyOf((Object[]) buffer, dim1);
+				Object[] added = (Object[]) newArray(dim1 - firstDim, capacity);
+				System.arraycopy(added, 0, rows, firstDim, added.length);
+				buffer = (T) rows;
+				firstDim = dim1;
+			}
+			size = dim2;
+			watermark = isLazyClear() ? Math.min(watermark, dim2) : dim2;
+		} finally {
+			writeLock().unlock();
+		}
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.ArrayBuffer#setSize(int)
+	 */
+	@Override
+	public void setSize(int size) {
+		if (size < 0) {
+			throw new IllegalArgumentException("Size can't be negative.");
+		}
+		writeLock().lock();
+		this.size = size;
+		if (size > capacity) {
+			int newCapacity = grownCapacity(size);
+			buffer = newArray(firstDim, newCapacity);
+			capacity = newCapacity;
+			watermark = size;
+		} else {
+			clearLocked();
+		}
+		writeLock().unlock();
+	}
+}
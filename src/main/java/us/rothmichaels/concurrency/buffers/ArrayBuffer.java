@@ -38,11 +38,26 @@
 package us.rothmichaels.concurrency.buffers;
 
 import java.lang.reflect.Array;
+import java.util.concurrent.locks.ReadWriteLock;
 
 /**
  * Uses an array as internal storage for the buffer.
  * 
- * Clear and set size could be optimized by subclasses.
+ * Arrays are created through {@link #newArray(int)}, which by default 
+ * uses reflection. Subclasses for a specific array type override it 
+ * to allocate directly.
+ * 
+ * {@link #clear()} zeroes the array in place, so references returned 
+ * by {@link #getDataRef()} stay valid. In lazy clear mode 
+ * ({@link #setLazyClear(boolean)}) clearing only resets a watermark: 
+ * contents at or past {@link #getWatermark()} are stale and must be 
+ * treated as zero. Writers either overwrite that region and call 
+ * {@link #setWatermark(int)} or zero just the part they need with 
+ * {@link #zeroTo(int)}.
+ * 
+ * The capacity (length of the backing array) is kept separately from 
+ * the size, see {@link #setSize(int)}, {@link #ensureCapacity(int)} 
+ * and {@link #trimToSize()}.
  *
  * @author Roth Michaels 
  * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
@@ -51,7 +66,22 @@ import java.lang.reflect.Array;
  */
 public abstract class ArrayBuffer<T> extends ReadWriteLockedBuffer<T> {
 
+	private static final int ZERO_CHUNK = 1024;
+	/** Largest array length the VM reliably allocates */
+	static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+	/** Default {@link #setGrowthFactor(float) growth factor} */
+	public static final float DEFAULT_GROWTH_FACTOR = 1.5f;
+	
 	private final Class<?> type;
+	/** Zeroed array for {@link #fill(int, int)}, created on first use */
+	private T zeros;
+	/** Clear by resetting the watermark only */
+	private boolean lazyClear;
+	/** Contents at or past this index are logically zero */
+	int watermark;
+	/** Length of the backing array */
+	int capacity;
+	private float growthFactor = DEFAULT_GROWTH_FACTOR;
 	
 	/**
 	 * @param buffer
@@ -60,42 +90,274 @@ public abstract class ArrayBuffer<T> extends ReadWriteLockedBuffer<T> {
 	public ArrayBuffer(Class<?> type, int size) {
 		super((T) Array.newInstance(type, size),size);
 		this.type = type;
+		this.watermark = size;
+		this.capacity = size;
+	}
+
+	/**
+	 * @param type array component type
+	 * @param size initial buffer size
+	 * @param lock lock guarding the buffer
+	 */
+	@SuppressWarnings("unchecked")
+	public ArrayBuffer(Class<?> type, int size, ReadWriteLock lock) {
+		super((T) Array.newInstance(type, size), size, lock);
+		this.type = type;
+		this.watermark = size;
+		this.capacity = size;
+	}
+	
+	/**
+	 * For subclasses that allocate their own array.
+	 * 
+	 * @param buffer initial array
+	 * @param size initial buffer size
+	 * @param lock lock guarding the buffer
+	 */
+	protected ArrayBuffer(T buffer, int size, ReadWriteLock lock) {
+		super(buffer, size, lock);
+		this.type = buffer.getClass().getComponentType();
+		this.watermark = size;
+		this.capacity = size;
+	}
+	
+	/**
+	 * Create a new, zeroed, backing array.
+	 * 
+	 * @param size array length
+	 * @return the array
+	 */
+	@SuppressWarnings("unchecked")
+	protected T newArray(int size) {
+		return (T) Array.newInstance(this.type, size);
+	}
+
+	/**
+	 * Zero part of the backing array. Caller must hold the write lock.
+	 * 
+	 * The default implementation copies from a small zeroed array; 
+	 * subclasses for a specific array type should fill directly.
+	 * 
+	 * @param from first index to zero
+	 * @param to index after the last index to zero
+	 */
+	protected void fill(int from, int to) {
+		if (zeros == null) {
+			zeros = newArray(ZERO_CHUNK);
+		}
+		for (int i = from; i < to; i += ZERO_CHUNK) {
+			System.arraycopy(zeros, 0, buffer, i, Math.min(ZERO_CHUNK, to - i));
+		}
+	}
+	
+	/**
+	 * @param lazy true to clear by resetting the watermark only
+	 */
+	public void setLazyClear(boolean lazy) {
+		writeLock().lock();
+		this.lazyClear = lazy;
+		if (!lazy) {
+			zeroTo(size);
+		}
+		writeLock().unlock();
+	}
+	
+	/**
+	 * @return true if clearing only resets the watermark
+	 */
+	public boolean isLazyClear() {
+		return lazyClear;
+	}
+	
+	/**
+	 * @return index at and past which the contents are logically zero;
+	 *  always the current size unless lazy clear is enabled
+	 */
+	public int getWatermark() {
+		return watermark;
+	}
+	
+	/**
+	 * Mark {@code [0, watermark)} as valid, for writers that have 
+	 * overwritten that region. Caller must hold the write lock.
+	 * 
+	 * @param watermark new watermark, from zero to the current size
+	 */
+	public void setWatermark(int watermark) {
+		if (watermark < 0 || watermark > size) {
+			throw new IllegalArgumentException("Bad watermark");
+		}
+		this.watermark = watermark;
+	}
+	
+	/**
+	 * Zero the contents from the watermark up to {@code to}, 
+	 * and move the watermark there. Caller must hold the write lock.
+	 * 
+	 * @param to index to zero up to, at most the current size
+	 */
+	public void zeroTo(int to) {
+		if (to > size) {
+			throw new IllegalArgumentException("Bad index");
+		}
+		if (to > watermark) {
+			fill(watermark, to);
+			watermark = to;
+		}
 	}
 
 	/**
+	 * Zero the buffer within the current size, or 
+	 * only reset the watermark in lazy clear mode.
+	 * 
 	 * @see us.rothmichaels.concurrency.buffers.IReadWriteLockedBuffer#clear()
 	 */
 	@Override
 	public void clear() {
 		writeLock().lock();
-		@SuppressWarnings("unchecked")
-		T tmp = (T) Array.newInstance(this.type, this.size);
-		buffer = tmp;
+		clearLocked();
+		writeLock().unlock();
+	}
+	
+	/**
+	 * {@link #clear()} for callers already holding the write lock.
+	 */
+	void clearLocked() {
+		if (lazyClear) {
+			watermark = 0;
+		} else {
+			fill(0, size);
+			watermark = size;
+		}
+	}
+
+	/**
+	 * Set the size within the current capacity and clear the buffer 
+	 * in one step, for reusing a buffer.
+	 * 
+	 * @param size new size, no more than the capacity
+	 */
+	void reset(int size) {
+		if (size < 0 || size > capacity) {
+			throw new IllegalArgumentException("Bad size");
+		}
+		writeLock().lock();
+		this.size = size;
+		clearLocked();
+		writeLock().unlock();
+	}
+	
+	/**
+	 * Restore the default clear mode and growth factor and drop 
+	 * version listeners, before handing the buffer to a new owner.
+	 */
+	void recycle() {
+		writeLock().lock();
+		lazyClear = false;
+		growthFactor = DEFAULT_GROWTH_FACTOR;
+		clearVersionListeners();
+		writeLock().unlock();
+	}
+
+	/**
+	 * @return length of the backing array
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+	
+	/**
+	 * @return factor the capacity is multiplied by when the buffer grows
+	 */
+	public float getGrowthFactor() {
+		return growthFactor;
+	}
+	
+	/**
+	 * Set how much the capacity grows when {@link #setSize(int)} 
+	 * needs more room. Geometric growth makes growing the size 
+	 * a little at a time amortized constant time per element.
+	 * 
+	 * @param growthFactor factor of at least one, 
+	 *  one grows to exactly the requested size
+	 */
+	public void setGrowthFactor(float growthFactor) {
+		if (!(growthFactor >= 1f)) {
+			throw new IllegalArgumentException("Growth factor must be at least one.");
+		}
+		this.growthFactor = growthFactor;
+	}
+	
+	/**
+	 * Grow the backing array, if needed, so the size can be 
+	 * set to {@code minCapacity} without reallocating.
+	 * 
+	 * @param minCapacity capacity needed
+	 */
+	public void ensureCapacity(int minCapacity) {
+		writeLock().lock();
+		if (minCapacity > capacity) {
+			reallocate(grownCapacity(minCapacity));
+		}
+		writeLock().unlock();
+	}
+	
+	/**
+	 * Shrink the backing array to the current size.
+	 */
+	public void trimToSize() {
+		writeLock().lock();
+		if (capacity > size) {
+			reallocate(size);
+		}
 		writeLock().unlock();
 	}
+	
+	/**
+	 * @param minCapacity capacity needed
+	 * @return capacity to grow to
+	 */
+	int grownCapacity(int minCapacity) {
+		long grown = (long) (capacity * (double) growthFactor);
+		return (int) Math.max(minCapacity, Math.min(grown, MAX_CAPACITY));
+	}
+	
+	/**
+	 * Move the contents within the current size to a new backing 
+	 * array. Caller must hold the write lock.
+	 * 
+	 * @param newCapacity length of the new array, at least the size
+	 */
+	void reallocate(int newCapacity) {
+		T tmp = newArray(newCapacity);
+		System.arraycopy(this.buffer, 0, tmp, 0, this.size);
+		this.buffer = tmp;
+		this.capacity = newCapacity;
+	}
 
 	/**
+	 * Set the size of the buffer, keeping the contents.
+	 * 
+	 * The backing array is only replaced when the size exceeds the 
+	 * capacity, and then grows by the growth factor. Elements that 
+	 * become part of the buffer again after shrinking are zeroed.
+	 * 
 	 * @see us.rothmichaels.concurrency.buffers.ReadWriteLockedBuffer#setSize(int)
 	 */
 	@Override
 	public void setSize(int size) {
-		try {
-			super.setSize(size);
-		} catch (IllegalArgumentException e) {
-			if (size > 0) {
-				writeLock().lock();
-				@SuppressWarnings("unchecked")
-				T tmp = (T) Array.newInstance(this.type, size);
-				System.arraycopy(this.buffer, 0, tmp, 0, this.size);
-				this.buffer = tmp;
-				this.size = size; 
-				writeLock().unlock();
-			} else {
-				throw e;
-			}
+		if (size <= 0) {
+			throw new IllegalArgumentException("Bad size");
+		}
+		writeLock().lock();
+		if (size > capacity) {
+			reallocate(grownCapacity(size));
+		} else if (size > this.size && !lazyClear) {
+			fill(this.size, size);
 		}
+		this.size = size;
+		watermark = lazyClear ? Math.min(watermark, size) : size;
+		writeLock().unlock();
 	}
 
-
-
 }
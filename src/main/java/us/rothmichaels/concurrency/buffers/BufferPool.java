@@ -0,0 +1,320 @@
+/*
+ * BufferPool.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Thread-safe pool of {@link FloatBuffer} and {@link Float2DBuffer} 
+ * instances.
+ * 
+ * Buffers are pooled by type, first dimension and capacity class 
+ * (the capacity rounded down to a power of two), so a request is 
+ * served by any pooled buffer big enough for it. Released buffers 
+ * go to a small per-thread cache first, which needs no 
+ * synchronization, and overflow to a shared lock-free queue other 
+ * threads can take from. The pool only retains buffers up to a 
+ * fixed number of bytes, counting both the per-thread caches and 
+ * the shared queue; anything past that is left to the garbage 
+ * collector. Buffers cached by a thread that exits stay counted.
+ * 
+ * Released buffers lose their version listeners and go back to 
+ * eager clearing and the default growth factor.
+ * 
+ * Acquired buffers are cleared and have the requested size. Return 
+ * them by closing the {@link Handle}:
+ * 
+ * <pre>
+ * try (BufferPool.Handle&lt;FloatBuffer&gt; h = pool.acquireFloat(512)) {
+ *     FloatBuffer buffer = h.get();
+ *     ...
+ * }
+ * </pre>
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class BufferPool {
+
+	/** Default limit on bytes retained by the pool */
+	public static final long DEFAULT_MAX_RETAINED_BYTES = 64L << 20;
+	/** Default number of buffers of each kind cached per thread */
+	public static final int DEFAULT_THREAD_CACHE_SIZE = 4;
+	
+	private static final int MAX_CLASS = 30;
+	
+	private final long maxRetainedBytes;
+	private final int threadCacheSize;
+	private final AtomicLong retainedBytes = new AtomicLong();
+	private final ConcurrentHashMap<Key, Queue<ArrayBuffer<?>>> shared = 
+			new ConcurrentHashMap<Key, Queue<ArrayBuffer<?>>>();
+	private final ThreadLocal<Map<Key, ArrayDeque<ArrayBuffer<?>>>> local = 
+			new ThreadLocal<Map<Key, ArrayDeque<ArrayBuffer<?>>>>() {
+		@Override
+		protected Map<Key, ArrayDeque<ArrayBuffer<?>>> initialValue() {
+			return new HashMap<Key, ArrayDeque<ArrayBuffer<?>>>();
+		}
+	};
+	
+	/**
+	 * Pool with the default limits.
+	 */
+	public BufferPool() {
+		this(DEFAULT_MAX_RETAINED_BYTES, DEFAULT_THREAD_CACHE_SIZE);
+	}
+	
+	/**
+	 * @param maxRetainedBytes limit on bytes held by the pool
+	 * @param threadCacheSize buffers of each kind cached per thread
+	 */
+	public BufferPool(long maxRetainedBytes, int threadCacheSize) {
+		if (maxRetainedBytes < 0 || threadCacheSize < 0) {
+			throw new IllegalArgumentException("Limits can't be negative.");
+		}
+		this.maxRetainedBytes = maxRetainedBytes;
+		this.threadCacheSize = threadCacheSize;
+	}
+	
+	/**
+	 * @param size buffer size
+	 * @return handle to a cleared buffer of {@code size}
+	 */
+	public Handle<FloatBuffer> acquireFloat(int size) {
+		int sizeClass = sizeClass(size);
+		Key key = new Key(FloatBuffer.class, 0, sizeClass);
+		FloatBuffer buffer = (FloatBuffer) poll(key);
+		if (buffer == null) {
+			buffer = new FloatBuffer(1 << sizeClass);
+		}
+		buffer.reset(size);
+		return new Handle<FloatBuffer>(this, buffer);
+	}
+	
+	/**
+	 * @param dim1 first dimension
+	 * @param size second dimension (buffer size)
+	 * @return handle to a cleared buffer of {@code dim1} by {@code size}
+	 */
+	public Handle<Float2DBuffer> acquireFloat2D(int dim1, int size) {
+		if (dim1 < 0) {
+			throw new IllegalArgumentException("Bad first dimension");
+		}
+		int sizeClass = sizeClass(size);
+		Key key = new Key(Float2DBuffer.class, dim1, sizeClass);
+		Float2DBuffer buffer = (Float2DBuffer) poll(key);
+		if (buffer == null) {
+			buffer = new Float2DBuffer(dim1, 1 << sizeClass);
+		}
+		buffer.reset(size);
+		return new Handle<Float2DBuffer>(this, buffer);
+	}
+	
+	/**
+	 * @return bytes currently held by the pool
+	 */
+	public long getRetainedBytes() {
+		return retainedBytes.get();
+	}
+	
+	/**
+	 * @return limit on bytes held by the pool
+	 */
+	public long getMaxRetainedBytes() {
+		return maxRetainedBytes;
+	}
+	
+	/**
+	 * Take a buffer from this thread's cache or the shared queue.
+	 */
+	private ArrayBuffer<?> poll(Key key) {
+		ArrayDeque<ArrayBuffer<?>> cache = local.get().get(key);
+		ArrayBuffer<?> buffer = (cache == null) ? null : cache.pollLast();
+		if (buffer == null) {
+			Queue<ArrayBuffer<?>> queue = shared.get(key);
+			buffer = (queue == null) ? null : queue.poll();
+		}
+		if (buffer != null) {
+			retainedBytes.addAndGet(-bytes(buffer, key.firstDim));
+		}
+		return buffer;
+	}
+	
+	/**
+	 * Return a buffer to this thread's cache, or the shared queue 
+	 * once the cache is full. Buffers past the limit are dropped.
+	 */
+	void release(ArrayBuffer<?> buffer) {
+		int firstDim = (buffer instanceof Array2DBuffer) 
+				? ((Array2DBuffer<?>) buffer).getFirstDim() : 0;
+		int capacity = buffer.getCapacity();
+		if (capacity <= 0) {
+			return;
+		}
+		int sizeClass = Math.min(MAX_CLASS, 31 - Integer.numberOfLeadingZeros(capacity));
+		Key key = new Key(buffer.getClass(), firstDim, sizeClass);
+		
+		long bytes = bytes(buffer, firstDim);
+		if (retainedBytes.addAndGet(bytes) > maxRetainedBytes) {
+			retainedBytes.addAndGet(-bytes);
+			return;
+		}
+		buffer.recycle();
+		
+		Map<Key, ArrayDeque<ArrayBuffer<?>>> caches = local.get();
+		ArrayDeque<ArrayBuffer<?>> cache = caches.get(key);
+		if (cache == null && threadCacheSize > 0) {
+			cache = new ArrayDeque<ArrayBuffer<?>>(threadCacheSize);
+			caches.put(key, cache);
+		}
+		if (cache != null && cache.size() < threadCacheSize) {
+			cache.addLast(buffer);
+			return;
+		}
+		Queue<ArrayBuffer<?>> queue = shared.get(key);
+		if (queue == null) {
+			Queue<ArrayBuffer<?>> created = new ConcurrentLinkedQueue<ArrayBuffer<?>>();
+			queue = shared.putIfAbsent(key, created);
+			if (queue == null) {
+				queue = created;
+			}
+		}
+		queue.offer(buffer);
+	}
+	
+	/**
+	 * @return log2 of the smallest power of two holding {@code size}
+	 */
+	static int sizeClass(int size) {
+		if (size <= 0 || size > (1 << MAX_CLASS)) {
+			throw new IllegalArgumentException("Bad size");
+		}
+		return 32 - Integer.numberOfLeadingZeros(size - 1);
+	}
+	
+	/**
+	 * Bytes a pooled buffer is accounted as, from its actual capacity.
+	 */
+	private static long bytes(ArrayBuffer<?> buffer, int firstDim) {
+		return 4L * Math.max(1, firstDim) * buffer.getCapacity();
+	}
+	
+	/**
+	 * Pooled buffer, returned to the pool when closed.
+	 * 
+	 * The buffer must not be used after the handle is closed.
+	 *
+	 * @author Roth Michaels 
+	 * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+	 * @param <B> buffer type
+	 *
+	 */
+	public static final class Handle<B extends ArrayBuffer<?>> implements AutoCloseable {
+		
+		private final BufferPool pool;
+		private final AtomicReference<B> buffer;
+		
+		Handle(BufferPool pool, B buffer) {
+			this.pool = pool;
+			this.buffer = new AtomicReference<B>(buffer);
+		}
+		
+		/**
+		 * @return the pooled buffer
+		 * @throws IllegalStateException if the handle has been closed
+		 */
+		public B get() {
+			B b = buffer.get();
+			if (b == null) {
+				throw new IllegalStateException("Handle closed.");
+			}
+			return b;
+		}
+		
+		/**
+		 * Return the buffer to the pool. Closing more than once, 
+		 * even concurrently, has no effect.
+		 * 
+		 * @see java.lang.AutoCloseable#close()
+		 */
+		@Override
+		public void close() {
+			B b = buffer.getAndSet(null);
+			if (b != null) {
+				pool.release(b);
+			}
+		}
+	}
+	
+	/**
+	 * Pool key: buffer class, first dimension and capacity class.
+	 */
+	private static final class Key {
+		final Class<?> type;
+		final int firstDim;
+		final int sizeClass;
+		
+		Key(Class<?> type, int firstDim, int sizeClass) {
+			this.type = type;
+			this.firstDim = firstDim;
+			this.sizeClass = sizeClass;
+		}
+		
+		@Override
+		public int hashCode() {
+			return (type.hashCode() * 31 + firstDim) * 31 + sizeClass;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return type == other.type && firstDim == other.firstDim 
+					&& sizeClass == other.sizeClass;
+		}
+	}
+}
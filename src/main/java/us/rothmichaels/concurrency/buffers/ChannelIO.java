@@ -0,0 +1,235 @@
+/*
+ * ChannelIO.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Channel transfer helpers for the buffer types.
+ * 
+ * Heap arrays are moved through a per-thread direct chunk with bulk 
+ * view copies, which also converts the byte order. Channels copy 
+ * heap {@link ByteBuffer}s to a temporary direct buffer internally, 
+ * so going through a direct chunk saves that copy. Direct memory in 
+ * the requested byte order is written as is.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+final class ChannelIO {
+	
+	/** Size of the per-thread transfer chunk */
+	static final int CHUNK_BYTES = 64 * 1024;
+	
+	private static final ThreadLocal<ByteBuffer> CHUNK = new ThreadLocal<ByteBuffer>() {
+		@Override
+		protected ByteBuffer initialValue() {
+			return ByteBuffer.allocateDirect(CHUNK_BYTES);
+		}
+	};
+	
+	private ChannelIO() {
+	}
+	
+	/**
+	 * @param order byte order
+	 * @return this thread's cleared transfer chunk in {@code order}
+	 */
+	static ByteBuffer chunk(ByteOrder order) {
+		ByteBuffer chunk = CHUNK.get();
+		chunk.clear();
+		return chunk.order(order);
+	}
+	
+	/**
+	 * Write all remaining bytes of {@code src}.
+	 * 
+	 * @return bytes written
+	 */
+	static long writeFully(WritableByteChannel ch, ByteBuffer src) throws IOException {
+		long n = src.remaining();
+		while (src.hasRemaining()) {
+			ch.write(src);
+		}
+		return n;
+	}
+	
+	/**
+	 * Fill the remaining bytes of {@code dst}.
+	 * 
+	 * @throws EOFException if the channel ends first
+	 */
+	static void readFully(ReadableByteChannel ch, ByteBuffer dst) throws IOException {
+		while (dst.hasRemaining()) {
+			if (ch.read(dst) < 0) {
+				throw new EOFException();
+			}
+		}
+	}
+	
+	/**
+	 * Write {@code a[off, off + len)} in {@code order}.
+	 * 
+	 * @return bytes written
+	 */
+	static long writeFloats(WritableByteChannel ch, float[] a, int off, int len, 
+			ByteOrder order) throws IOException {
+		ByteBuffer chunk = chunk(order);
+		final int per = CHUNK_BYTES / 4;
+		for (int i = off, end = off + len; i < end; i += per) {
+			int n = Math.min(per, end - i);
+			chunk.clear();
+			chunk.asFloatBuffer().put(a, i, n);
+			chunk.limit(n * 4);
+			writeFully(ch, chunk);
+		}
+		return 4L * len;
+	}
+	
+	/**
+	 * Read {@code len} floats in {@code order} into {@code a} at {@code off}.
+	 * 
+	 * @throws EOFException if the channel ends first
+	 */
+	static void readFloats(ReadableByteChannel ch, float[] a, int off, int len, 
+			ByteOrder order) throws IOException {
+		ByteBuffer chunk = chunk(order);
+		final int per = CHUNK_BYTES / 4;
+		for (int i = off, end = off + len; i < end; i += per) {
+			int n = Math.min(per, end - i);
+			chunk.clear();
+			chunk.limit(n * 4);
+			readFully(ch, chunk);
+			chunk.flip();
+			chunk.asFloatBuffer().get(a, i, n);
+		}
+	}
+	
+	/**
+	 * Write {@code bytes} zero bytes.
+	 * 
+	 * @return bytes written
+	 */
+	static long writeZeros(WritableByteChannel ch, long bytes) throws IOException {
+		ByteBuffer chunk = chunk(ByteOrder.nativeOrder());
+		while (chunk.hasRemaining()) {
+			chunk.putLong(0L);
+		}
+		for (long left = bytes; left > 0; left -= chunk.capacity()) {
+			chunk.clear();
+			chunk.limit((int) Math.min(left, chunk.capacity()));
+			writeFully(ch, chunk);
+		}
+		return bytes;
+	}
+	
+	/**
+	 * Write {@code src}, whose words of {@code wordBytes} are in 
+	 * {@code src.order()}, in {@code order}.
+	 * 
+	 * @return bytes written
+	 */
+	static long writeSwapped(WritableByteChannel ch, ByteBuffer src, int wordBytes, 
+			ByteOrder order) throws IOException {
+		ByteBuffer in = src.duplicate().order(src.order());
+		long total = in.remaining();
+		ByteBuffer chunk = chunk(order);
+		while (in.hasRemaining()) {
+			int n = Math.min(in.remaining(), CHUNK_BYTES);
+			ByteBuffer part = in.duplicate().order(in.order());
+			part.limit(part.position() + n);
+			chunk.clear();
+			swap(part, chunk, wordBytes);
+			chunk.flip();
+			writeFully(ch, chunk);
+			in.position(in.position() + n);
+		}
+		return total;
+	}
+	
+	/**
+	 * Fill {@code dst}, whose words of {@code wordBytes} are in 
+	 * {@code dst.order()}, with data in {@code order}.
+	 * 
+	 * @throws EOFException if the channel ends first
+	 */
+	static void readSwapped(ReadableByteChannel ch, ByteBuffer dst, int wordBytes, 
+			ByteOrder order) throws IOException {
+		ByteBuffer out = dst.duplicate().order(dst.order());
+		ByteBuffer chunk = chunk(order);
+		while (out.hasRemaining()) {
+			int n = Math.min(out.remaining(), CHUNK_BYTES);
+			chunk.clear();
+			chunk.limit(n);
+			readFully(ch, chunk);
+			chunk.flip();
+			ByteBuffer part = out.duplicate().order(out.order());
+			part.limit(part.position() + n);
+			swap(chunk, part, wordBytes);
+			out.position(out.position() + n);
+		}
+	}
+	
+	/**
+	 * Copy the remaining bytes of {@code src} to {@code dst} word by 
+	 * word, converting between their byte orders.
+	 */
+	private static void swap(ByteBuffer src, ByteBuffer dst, int wordBytes) {
+		int words = src.remaining() / wordBytes;
+		switch (wordBytes) {
+		case 2:
+			dst.asShortBuffer().put(src.asShortBuffer());
+			break;
+		case 4:
+			dst.asIntBuffer().put(src.asIntBuffer());
+			break;
+		case 8:
+			dst.asLongBuffer().put(src.asLongBuffer());
+			break;
+		default:
+			throw new IllegalArgumentException("Bad word size: " + wordBytes);
+		}
+		dst.position(dst.position() + words * wordBytes);
+	}
+}
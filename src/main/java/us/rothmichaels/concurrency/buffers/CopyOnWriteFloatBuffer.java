@@ -0,0 +1,425 @@
+/*
+ * CopyOnWriteFloatBuffer.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Primitive float buffer for data that is read far more often 
+ * than it is changed (read-copy-update).
+ * 
+ * The contents are published as an immutable {@link Snapshot} 
+ * through a volatile reference. Readers call {@link #snapshot()} 
+ * or {@link #get(int)} and never lock or write shared state. 
+ * 
+ * Writers hold the write lock, which gives them a private copy of 
+ * the latest snapshot; releasing the outermost write lock publishes 
+ * that copy atomically. Several changes made while holding the 
+ * write lock (or inside {@link #write(java.util.function.Consumer)}) 
+ * are published together. Writers only exclude other writers.
+ * 
+ * The read lock only pins the current snapshot for the calling 
+ * thread, so {@link #getDataRef()} and {@link #getSize()} agree 
+ * while it is held; it never waits. Arrays returned by 
+ * {@link #getDataRef()} outside the write lock must not be modified. 
+ * Neither lock supports conditions.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class CopyOnWriteFloatBuffer implements IReadWriteLockedBuffer<float[]> {
+
+	/** Latest published contents */
+	private volatile Snapshot current;
+	/** Writer's private copy, created on first use, null if none */
+	private float[] working;
+	/** Size of the writer's copy */
+	private int workingSize;
+	/** Thread holding the write lock */
+	private volatile Thread writer;
+	
+	private final ReentrantLock writerLock = new ReentrantLock();
+	private final ThreadLocal<ReadHold> readHold = new ThreadLocal<ReadHold>() {
+		@Override
+		protected ReadHold initialValue() {
+			return new ReadHold();
+		}
+	};
+	
+	private final Lock readLock = new ReadLock();
+	private final Lock writeLock = new WriteLock();
+	
+	/**
+	 * @param size initial buffer size
+	 */
+	public CopyOnWriteFloatBuffer(int size) {
+		if (size < 0) {
+			throw new IllegalArgumentException("Bad size");
+		}
+		this.current = new Snapshot(new float[size], size);
+	}
+	
+	/**
+	 * Latest published contents. Never waits.
+	 * 
+	 * @return immutable snapshot
+	 */
+	public Snapshot snapshot() {
+		return current;
+	}
+	
+	/**
+	 * Read a single published value without locking.
+	 * 
+	 * @param index index into the buffer
+	 * @return value at {@code index}
+	 * @throws ArrayIndexOutOfBoundsException
+	 *  if {@code index} is not within the published size
+	 */
+	public float get(int index) {
+		return current.get(index);
+	}
+
+	/**
+	 * @see java.util.concurrent.locks.ReadWriteLock#readLock()
+	 */
+	@Override
+	public Lock readLock() {
+		return readLock;
+	}
+
+	/**
+	 * @see java.util.concurrent.locks.ReadWriteLock#writeLock()
+	 */
+	@Override
+	public Lock writeLock() {
+		return writeLock;
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.IReadWriteLockedBuffer#getSize()
+	 */
+	@Override
+	public int getSize() {
+		if (writer == Thread.currentThread()) {
+			return workingSize;
+		}
+		return currentSnapshot().size;
+	}
+
+	/**
+	 * Set the size, keeping the contents. Published when the 
+	 * write lock is released.
+	 * 
+	 * @see us.rothmichaels.concurrency.buffers.IReadWriteLockedBuffer#setSize(int)
+	 */
+	@Override
+	public void setSize(int size) {
+		if (size < 0) {
+			throw new IllegalArgumentException("Bad size");
+		}
+		writeLock.lock();
+		try {
+			float[] data = working();
+			if (size > data.length) {
+				float[] grown = new float[size];
+				System.arraycopy(data, 0, grown, 0, workingSize);
+				working = grown;
+			} else if (size > workingSize) {
+				Arrays.fill(data, workingSize, size, 0f);
+			}
+			workingSize = size;
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Publishes a zeroed buffer without copying the old contents.
+	 * 
+	 * @see us.rothmichaels.concurrency.buffers.IReadWriteLockedBuffer#clear()
+	 */
+	@Override
+	public void clear() {
+		writeLock.lock();
+		try {
+			if (working == null) {
+				working = new float[workingSize];
+			} else {
+				Arrays.fill(working, 0, workingSize, 0f);
+			}
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * @return T 
+	 * 	the writer's private copy if the calling thread holds the 
+	 *  write lock, otherwise the pinned or latest published 
+	 *  contents, which must not be modified. May be larger than 
+	 *  the current buffer size.
+	 * 
+	 * @see us.rothmichaels.concurrency.buffers.IReadWriteLockedBuffer#getDataRef()
+	 */
+	@Override
+	public float[] getDataRef() {
+		if (writer == Thread.currentThread()) {
+			return working();
+		}
+		return currentSnapshot().data;
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.IReadWriteLockedBuffer#getDataClass()
+	 */
+	@Override
+	public Class<float[]> getDataClass() {
+		return float[].class;
+	}
+	
+	private Snapshot currentSnapshot() {
+		Snapshot held = readHold.get().snapshot;
+		return (held != null) ? held : current;
+	}
+	
+	/**
+	 * Writer's private copy, copying the published contents 
+	 * on first use. Only called by the writer.
+	 */
+	private float[] working() {
+		if (working == null) {
+			Snapshot s = current;
+			working = Arrays.copyOf(s.data, s.data.length);
+		}
+		return working;
+	}
+	
+	private void beginWrite() {
+		if (writerLock.getHoldCount() == 1) {
+			working = null;
+			workingSize = current.size;
+			writer = Thread.currentThread();
+		}
+	}
+	
+	private void endWrite() {
+		if (writerLock.getHoldCount() == 1) {
+			if (working != null) {
+				current = new Snapshot(working, workingSize);
+			}
+			working = null;
+			writer = null;
+		}
+	}
+	
+	/**
+	 * Immutable published contents of the buffer.
+	 *
+	 * @author Roth Michaels 
+	 * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+	 *
+	 */
+	public static final class Snapshot {
+		
+		final float[] data;
+		final int size;
+		
+		Snapshot(float[] data, int size) {
+			this.data = data;
+			this.size = size;
+		}
+		
+		/**
+		 * @return size of the snapshot
+		 */
+		public int getSize() {
+			return size;
+		}
+		
+		/**
+		 * @param index index into the snapshot
+		 * @return value at {@code index}
+		 * @throws ArrayIndexOutOfBoundsException
+		 *  if {@code index} is not within the size
+		 */
+		public float get(int index) {
+			if (index < 0 || index >= size) {
+				throw new ArrayIndexOutOfBoundsException(index);
+			}
+			return data[index];
+		}
+		
+		/**
+		 * @param dst destination array
+		 * @param srcOff offset into the snapshot
+		 * @param dstOff offset into {@code dst}
+		 * @param len number of elements
+		 * @throws IndexOutOfBoundsException 
+		 *  if the range is not within the size or {@code dst}
+		 */
+		public void copyTo(float[] dst, int srcOff, int dstOff, int len) {
+			FloatBuffer.checkRange(srcOff, len, size);
+			System.arraycopy(data, srcOff, dst, dstOff, len);
+		}
+		
+		/**
+		 * @return copy of the contents
+		 */
+		public float[] toArray() {
+			return Arrays.copyOf(data, size);
+		}
+	}
+	
+	/**
+	 * Snapshot pinned by a reader thread.
+	 */
+	private static final class ReadHold {
+		Snapshot snapshot;
+		int holds;
+	}
+	
+	/**
+	 * Pins the latest snapshot for the calling thread. Never waits.
+	 */
+	private class ReadLock implements Lock {
+
+		@Override
+		public void lock() {
+			ReadHold hold = readHold.get();
+			if (hold.holds++ == 0) {
+				hold.snapshot = current;
+			}
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			if (Thread.interrupted()) {
+				throw new InterruptedException();
+			}
+			lock();
+		}
+
+		@Override
+		public boolean tryLock() {
+			lock();
+			return true;
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit)
+				throws InterruptedException {
+			lockInterruptibly();
+			return true;
+		}
+
+		@Override
+		public void unlock() {
+			ReadHold hold = readHold.get();
+			if (hold.holds == 0) {
+				throw new IllegalMonitorStateException();
+			}
+			if (--hold.holds == 0) {
+				hold.snapshot = null;
+			}
+		}
+
+		@Override
+		public Condition newCondition() {
+			throw new UnsupportedOperationException();
+		}
+	}
+	
+	/**
+	 * Gives the writer a private copy, publishes it on release.
+	 */
+	private class WriteLock implements Lock {
+
+		@Override
+		public void lock() {
+			writerLock.lock();
+			beginWrite();
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			writerLock.lockInterruptibly();
+			beginWrite();
+		}
+
+		@Override
+		public boolean tryLock() {
+			if (writerLock.tryLock()) {
+				beginWrite();
+				return true;
+			} else {
+				return false;
+			}
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit)
+				throws InterruptedException {
+			if (writerLock.tryLock(time, unit)) {
+				beginWrite();
+				return true;
+			} else {
+				return false;
+			}
+		}
+
+		@Override
+		public void unlock() {
+			if (!writerLock.isHeldByCurrentThread()) {
+				throw new IllegalMonitorStateException();
+			}
+			endWrite();
+			writerLock.unlock();
+		}
+
+		@Override
+		public Condition newCondition() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
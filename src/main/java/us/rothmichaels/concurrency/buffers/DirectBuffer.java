@@ -0,0 +1,358 @@
+/*
+ * DirectBuffer.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * Uses off-heap memory as internal storage for the buffer.
+ * 
+ * The memory is allocated in native byte order and is exposed through 
+ * a typed NIO view returned by {@link #getDataRef()}, so it can be 
+ * handed to native or NIO code without copying. The memory is 
+ * released by {@link #close()}; the buffer can not be used after 
+ * it has been closed.
+ * 
+ * The view returned by {@link #getDataRef()} is shared, use absolute 
+ * operations or {@link java.nio.Buffer#duplicate()} rather than 
+ * changing its position or limit. Growing the buffer moves it to new 
+ * memory: earlier views stay valid but no longer see the buffer, the 
+ * old memory is freed once they are unreachable. Views must not be 
+ * used after {@link #close()}.
+ * 
+ * {@link #writeTo(WritableByteChannel, ByteOrder)} and 
+ * {@link #readFrom(ReadableByteChannel, ByteOrder)} hand the native 
+ * memory straight to the channel when the byte order matches, and 
+ * byte swap through a small direct chunk otherwise.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ * @param <T> NIO view type
+ *
+ */
+public abstract class DirectBuffer<T extends Buffer> extends ReadWriteLockedBuffer<T> 
+		implements Closeable {
+
+	/** Bytes per element */
+	final int elementBytes;
+	/** Bytes per scalar value, the unit of byte swapping */
+	final int wordBytes;
+	/** Number of elements that fit in the allocated memory */
+	int capacity;
+	/** Backing memory, null once closed */
+	ByteBuffer bytes;
+	/** Byte offset of the first element in the backing memory */
+	int base;
+	
+	/**
+	 * @param size initial buffer size in elements
+	 * @param elementBytes bytes per element
+	 * @param wordBytes bytes per scalar value
+	 * @param lock lock guarding the buffer
+	 */
+	DirectBuffer(int size, int elementBytes, int wordBytes, ReadWriteLock lock) {
+		super(null, size, lock);
+		if (size <= 0) {
+			throw new IllegalArgumentException("Bad size");
+		}
+		this.elementBytes = elementBytes;
+		this.wordBytes = wordBytes;
+		this.capacity = size;
+	}
+	
+	/**
+	 * Allocate the initial memory. Called by subclass constructors 
+	 * once they are ready to create views.
+	 */
+	void init() {
+		bytes = allocate(capacity);
+		buffer = view(bytes);
+	}
+	
+	/**
+	 * Allocate native memory for {@code elements} elements.
+	 * 
+	 * @param elements number of elements
+	 * @return memory in native byte order
+	 */
+	ByteBuffer allocate(int elements) {
+		return ByteBuffer.allocateDirect(checkedBytes(elements)).order(ByteOrder.nativeOrder());
+	}
+	
+	/**
+	 * Release memory previously returned by {@link #allocate(int)}.
+	 * 
+	 * @param memory memory to release
+	 */
+	void release(ByteBuffer memory) {
+		DirectMemory.free(memory);
+	}
+	
+	/**
+	 * Create the typed view of the backing memory.
+	 * 
+	 * @param memory backing memory
+	 * @return typed view
+	 */
+	abstract T view(ByteBuffer memory);
+	
+	/**
+	 * @param memory backing memory
+	 * @return the element region of {@code memory}, keeping its byte order
+	 */
+	ByteBuffer data(ByteBuffer memory) {
+		ByteBuffer dup = memory.duplicate();
+		dup.position(base);
+		return dup.slice().order(memory.order());
+	}
+	
+	int checkedBytes(int elements) {
+		long n = (long) elements * elementBytes;
+		if (n > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Buffer too large: " + elements);
+		}
+		return (int) n;
+	}
+	
+	void ensureOpen() {
+		if (bytes == null) {
+			throw new IllegalStateException("Buffer has been closed.");
+		}
+	}
+	
+	/**
+	 * Get the raw bytes backing this buffer. Like 
+	 * {@link #getDataRef()}, use only while holding a lock.
+	 * 
+	 * @return duplicate of the backing memory limited to the current size
+	 */
+	public ByteBuffer getByteBuffer() {
+		ensureOpen();
+		ByteBuffer dup = data(bytes);
+		dup.limit(size * elementBytes);
+		return dup;
+	}
+	
+	/**
+	 * @return number of elements that fit without reallocating
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+	
+	/**
+	 * @return true once {@link #close()} has been called
+	 */
+	public boolean isClosed() {
+		return bytes == null;
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.ReadWriteLockedBuffer#getDataRef()
+	 */
+	@Override
+	public T getDataRef() {
+		ensureOpen();
+		return buffer;
+	}
+
+	/**
+	 * Zero the memory within the current size.
+	 * 
+	 * @see us.rothmichaels.concurrency.buffers.IReadWriteLockedBuffer#clear()
+	 */
+	@Override
+	public void clear() {
+		writeLock().lock();
+		try {
+			ensureOpen();
+			zero(0, size * elementBytes);
+		} finally {
+			writeLock().unlock();
+		}
+	}
+	
+	/**
+	 * Zero a range of the element memory. Caller must hold the write lock.
+	 * 
+	 * @param from first byte
+	 * @param to byte after the last byte
+	 */
+	void zero(int from, int to) {
+		ByteBuffer dup = bytes.duplicate();
+		dup.limit(base + to);
+		dup.position(base + from);
+		while (dup.remaining() >= 8) {
+			dup.putLong(0L);
+		}
+		while (dup.hasRemaining()) {
+			dup.put((byte) 0);
+		}
+	}
+
+	/**
+	 * Set the size of the buffer, reallocating the native 
+	 * memory if the new size exceeds the capacity.
+	 * 
+	 * @see us.rothmichaels.concurrency.buffers.ReadWriteLockedBuffer#setSize(int)
+	 */
+	@Override
+	public void setSize(int size) {
+		if (size <= 0) {
+			throw new IllegalArgumentException("Bad size");
+		}
+		writeLock().lock();
+		try {
+			resize(size);
+		} finally {
+			writeLock().unlock();
+		}
+	}
+	
+	/**
+	 * Change the size, growing the memory if needed and zeroing 
+	 * elements that become visible. Caller must hold the write lock.
+	 * 
+	 * @param size new size
+	 */
+	void resize(int size) {
+		ensureOpen();
+		if (size > capacity) {
+			grow(size);
+		} else if (size > this.size) {
+			zero(this.size * elementBytes, size * elementBytes);
+		}
+		this.size = size;
+	}
+	
+	/**
+	 * Move the buffer to a larger allocation, keeping the contents.
+	 * The old memory is left to the garbage collector, since views 
+	 * from earlier {@link #getDataRef()} calls may still refer to it.
+	 * Caller must hold the write lock.
+	 * 
+	 * @param elements new capacity
+	 */
+	void grow(int elements) {
+		ByteBuffer old = bytes;
+		ByteBuffer tmp = allocate(elements);
+		ByteBuffer src = old.duplicate();
+		src.limit(base + size * elementBytes);
+		src.position(base);
+		tmp.position(base);
+		tmp.put(src);
+		tmp.clear();
+		bytes = tmp;
+		buffer = view(tmp);
+		capacity = elements;
+	}
+	
+	/**
+	 * Write the contents within the current size to a channel, 
+	 * holding the read lock.
+	 * 
+	 * @param ch channel to write to
+	 * @param order byte order to write in
+	 * @return bytes written
+	 * @throws IOException if the channel fails
+	 */
+	public long writeTo(WritableByteChannel ch, ByteOrder order) throws IOException {
+		readLock().lock();
+		try {
+			ByteBuffer src = getByteBuffer();
+			if (src.order() == order) {
+				return ChannelIO.writeFully(ch, src);
+			} else {
+				return ChannelIO.writeSwapped(ch, src, wordBytes, order);
+			}
+		} finally {
+			readLock().unlock();
+		}
+	}
+	
+	/**
+	 * Replace the contents within the current size with data read 
+	 * from a channel, holding the write lock.
+	 * 
+	 * @param ch channel to read from
+	 * @param order byte order of the data in the channel
+	 * @throws java.io.EOFException if the channel ends before the 
+	 *  buffer is filled
+	 * @throws IOException if the channel fails
+	 */
+	public void readFrom(ReadableByteChannel ch, ByteOrder order) throws IOException {
+		writeLock().lock();
+		try {
+			ByteBuffer dst = getByteBuffer();
+			if (dst.order() == order) {
+				ChannelIO.readFully(ch, dst);
+			} else {
+				ChannelIO.readSwapped(ch, dst, wordBytes, order);
+			}
+		} finally {
+			writeLock().unlock();
+		}
+	}
+	
+	/**
+	 * Release the native memory. Safe to call more than once.
+	 * 
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() {
+		writeLock().lock();
+		try {
+			if (bytes != null) {
+				ByteBuffer old = bytes;
+				bytes = null;
+				buffer = null;
+				release(old);
+			}
+		} finally {
+			writeLock().unlock();
+		}
+	}
+}
@@ -0,0 +1,241 @@
+/*
+ * DirectFloat2DBuffer.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import us.rothmichaels.concurrency.locks.LockPolicy;
+
+/**
+ * Read/Write lockable off-heap 2D float buffer.
+ * 
+ * All rows are stored in one allocation, row {@code i} starting at 
+ * float index {@code i * getSize()}. {@link #getDataRef()} returns a 
+ * {@link java.nio.FloatBuffer} view of every row and {@link #row(int)} 
+ * returns a view of a single row. Changing the size clears the buffer, 
+ * as {@link Float2DBuffer} does.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class DirectFloat2DBuffer extends DirectBuffer<java.nio.FloatBuffer> {
+
+	private final int firstDim;
+	
+	/**
+	 * @param dim1 first dimension
+	 * @param dim2 second dimension (buffer size)
+	 */
+	public DirectFloat2DBuffer(int dim1, int dim2) {
+		this(dim1, dim2, new ReentrantReadWriteLock());
+	}
+	
+	/**
+	 * @param dim1 first dimension
+	 * @param dim2 second dimension (buffer size)
+	 * @param lock lock guarding the buffer
+	 */
+	public DirectFloat2DBuffer(int dim1, int dim2, ReadWriteLock lock) {
+		super(dim2, 4 * dim1, 4, lock);
+		if (dim1 <= 0) {
+			throw new IllegalArgumentException("Bad first dimension");
+		}
+		firstDim = dim1;
+		init();
+	}
+
+	/**
+	 * @param dim1 first dimension
+	 * @param dim2 second dimension (buffer size)
+	 * @param policy ordering policy of the lock guarding the buffer
+	 */
+	public DirectFloat2DBuffer(int dim1, int dim2, LockPolicy policy) {
+		this(dim1, dim2, policy.newLock());
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.DirectBuffer#view(java.nio.ByteBuffer)
+	 */
+	@Override
+	java.nio.FloatBuffer view(ByteBuffer memory) {
+		return data(memory).asFloatBuffer();
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.ReadWriteLockedBuffer#getDataClass()
+	 */
+	@Override
+	public Class<java.nio.FloatBuffer> getDataClass() {
+		return java.nio.FloatBuffer.class;
+	}
+	
+	/**
+	 * @return size of the first dimension
+	 */
+	public int getFirstDim() {
+		return firstDim;
+	}
+	
+	/**
+	 * Get a view of one row. Caller must hold a lock, the view 
+	 * is invalidated by {@link #setSize(int)} and {@link #close()}.
+	 * 
+	 * @param i row index
+	 * @return view of row {@code i}, {@link #getSize()} floats long
+	 */
+	public java.nio.FloatBuffer row(int i) {
+		checkRow(i);
+		java.nio.FloatBuffer dup = buffer.duplicate();
+		dup.position(i * size);
+		dup.limit((i + 1) * size);
+		return dup.slice();
+	}
+	
+	/**
+	 * Caller must hold a lock.
+	 * 
+	 * @param i row index
+	 * @param index index into the row
+	 * @return value at {@code [i][index]}
+	 */
+	public float get(int i, int index) {
+		checkIndex(i, index, 1);
+		return buffer.get(i * size + index);
+	}
+	
+	/**
+	 * Caller must hold the write lock.
+	 * 
+	 * @param i row index
+	 * @param index index into the row
+	 * @param value new value
+	 */
+	public void put(int i, int index, float value) {
+		checkIndex(i, index, 1);
+		buffer.put(i * size + index, value);
+	}
+	
+	/**
+	 * Copy values out of a row. Caller must hold a lock.
+	 * 
+	 * @param i row index
+	 * @param index first index in the row
+	 * @param dst destination array
+	 * @param offset first index in {@code dst}
+	 * @param length number of values
+	 */
+	public void get(int i, int index, float[] dst, int offset, int length) {
+		checkIndex(i, index, length);
+		java.nio.FloatBuffer dup = buffer.duplicate();
+		dup.position(i * size + index);
+		dup.get(dst, offset, length);
+	}
+	
+	/**
+	 * Copy values into a row. Caller must hold the write lock.
+	 * 
+	 * @param i row index
+	 * @param index first index in the row
+	 * @param src source array
+	 * @param offset first index in {@code src}
+	 * @param length number of values
+	 */
+	public void put(int i, int index, float[] src, int offset, int length) {
+		checkIndex(i, index, length);
+		java.nio.FloatBuffer dup = buffer.duplicate();
+		dup.position(i * size + index);
+		dup.put(src, offset, length);
+	}
+	
+	/**
+	 * Zero one row.
+	 * 
+	 * @param i row index
+	 */
+	public void clear(int i) {
+		writeLock().lock();
+		try {
+			checkRow(i);
+			zero(i * size * 4, (i + 1) * size * 4);
+		} finally {
+			writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Set the size of the second dimension and clear the buffer.
+	 * 
+	 * @see us.rothmichaels.concurrency.buffers.DirectBuffer#setSize(int)
+	 */
+	@Override
+	public void setSize(int size) {
+		if (size <= 0) {
+			throw new IllegalArgumentException("Bad size");
+		}
+		writeLock().lock();
+		try {
+			ensureOpen();
+			if (size > capacity) {
+				this.size = 0;
+				grow(size);
+			}
+			this.size = size;
+			zero(0, size * elementBytes);
+		} finally {
+			writeLock().unlock();
+		}
+	}
+	
+	private void checkRow(int i) {
+		ensureOpen();
+		if (i < 0 || i >= firstDim) {
+			throw new IndexOutOfBoundsException("row " + i);
+		}
+	}
+	
+	private void checkIndex(int i, int index, int length) {
+		checkRow(i);
+		if (index < 0 || length < 0 || index > size - length) {
+			throw new IndexOutOfBoundsException(
+					"index " + index + ", length " + length + ", size " + size);
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * DirectFloatBuffer.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import us.rothmichaels.concurrency.locks.LockPolicy;
+
+/**
+ * Read/Write lockable off-heap float buffer.
+ * 
+ * {@link #getDataRef()} returns a {@link java.nio.FloatBuffer} view 
+ * of the native memory.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class DirectFloatBuffer extends DirectBuffer<java.nio.FloatBuffer> {
+
+	/**
+	 * @param size initial buffer size
+	 */
+	public DirectFloatBuffer(int size) {
+		this(size, new ReentrantReadWriteLock());
+	}
+	
+	/**
+	 * @param size initial buffer size
+	 * @param lock lock guarding the buffer
+	 */
+	public DirectFloatBuffer(int size, ReadWriteLock lock) {
+		super(size, 4, 4, lock);
+		init();
+	}
+
+	/**
+	 * @param size initial buffer size
+	 * @param policy ordering policy of the lock guarding the buffer
+	 */
+	public DirectFloatBuffer(int size, LockPolicy policy) {
+		this(size, policy.newLock());
+	}
+	
+	/**
+	 * Constructor for subclasses that allocate their own memory.
+	 * 
+	 * @param size initial buffer size
+	 * @param lock lock guarding the buffer
+	 * @param init false to defer {@link #init()} to the subclass
+	 */
+	DirectFloatBuffer(int size, ReadWriteLock lock, boolean init) {
+		super(size, 4, 4, lock);
+		if (init) {
+			init();
+		}
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.DirectBuffer#view(java.nio.ByteBuffer)
+	 */
+	@Override
+	java.nio.FloatBuffer view(ByteBuffer memory) {
+		return data(memory).asFloatBuffer();
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.ReadWriteLockedBuffer#getDataClass()
+	 */
+	@Override
+	public Class<java.nio.FloatBuffer> getDataClass() {
+		return java.nio.FloatBuffer.class;
+	}
+	
+	/**
+	 * Caller must hold a lock.
+	 * 
+	 * @param index index into the buffer
+	 * @return value at {@code index}
+	 */
+	public float get(int index) {
+		checkIndex(index, 1);
+		return buffer.get(index);
+	}
+	
+	/**
+	 * Caller must hold the write lock.
+	 * 
+	 * @param index index into the buffer
+	 * @param value new value
+	 */
+	public void put(int index, float value) {
+		checkIndex(index, 1);
+		buffer.put(index, value);
+	}
+	
+	/**
+	 * Copy values out of the buffer. Caller must hold a lock.
+	 * 
+	 * @param index first index in the buffer
+	 * @param dst destination array
+	 * @param offset first index in {@code dst}
+	 * @param length number of values
+	 */
+	public void get(int index, float[] dst, int offset, int length) {
+		checkIndex(index, length);
+		java.nio.FloatBuffer dup = buffer.duplicate();
+		dup.position(index);
+		dup.get(dst, offset, length);
+	}
+	
+	/**
+	 * Copy values into the buffer. Caller must hold the write lock.
+	 * 
+	 * @param index first index in the buffer
+	 * @param src source array
+	 * @param offset first index in {@code src}
+	 * @param length number of values
+	 */
+	public void put(int index, float[] src, int offset, int length) {
+		checkIndex(index, length);
+		java.nio.FloatBuffer dup = buffer.duplicate();
+		dup.position(index);
+		dup.put(src, offset, length);
+	}
+	
+	void checkIndex(int index, int length) {
+		ensureOpen();
+		if (index < 0 || length < 0 || index > size - length) {
+			throw new IndexOutOfBoundsException(
+					"index " + index + ", length " + length + ", size " + size);
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Double2DBuffer.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import us.rothmichaels.concurrency.locks.LockPolicy;
+
+/**
+ * Read/Write lockable primitive 2D double buffer ({@code double[][]}).
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class Double2DBuffer extends Array2DBuffer<double[][]> {
+
+	/**
+	 * @param dim1 first dimension
+	 * @param dim2 second dimension (buffer size)
+	 */
+	public Double2DBuffer(int dim1, int dim2) {
+		this(dim1, dim2, new ReentrantReadWriteLock());
+	}
+
+	/**
+	 * @param dim1 first dimension
+	 * @param dim2 second dimension (buffer size)
+	 * @param lock lock guarding the buffer
+	 */
+	public Double2DBuffer(int dim1, int dim2, ReadWriteLock lock) {
+		super(new double[dim1][dim2], dim1, dim2, lock);
+	}
+
+	/**
+	 * @param dim1 first dimension
+	 * @param dim2 second dimension (buffer size)
+	 * @param policy ordering policy of the lock guarding the buffer
+	 */
+	public Double2DBuffer(int dim1, int dim2, LockPolicy policy) {
+		this(dim1, dim2, policy.newLock());
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.Array2DBuffer#newArray(int, int)
+	 */
+	@Override
+	protected double[][] newArray(int dim1, int dim2) {
+		return new double[dim1][dim2];
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.Array2DBuffer#zeroRow(int, int, int)
+	 */
+	@Override
+	protected void zeroRow(int i, int from, int to) {
+		Arrays.fill(buffer[i], from, to, 0d);
+	}
+}
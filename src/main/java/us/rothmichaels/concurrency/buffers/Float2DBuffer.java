@@ -37,57 +37,556 @@
  */
 package us.rothmichaels.concurrency.buffers;
 
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BinaryOperator;
+
+import us.rothmichaels.concurrency.collections.ReadWriteLockCollection;
+import us.rothmichaels.concurrency.locks.LockPolicy;
 
 /**
  * Read/Write lockable primitive 2D float buffer ({@code float[][]}).
+ * 
+ * A striped buffer has a separate read/write lock for each row, so 
+ * threads working on different rows (e.g. one writer per channel) 
+ * don't contend. The whole buffer lock is a 
+ * {@link ReadWriteLockCollection} over the row locks and excludes 
+ * all of them.
+ * 
+ * The bulk operations work row by row like the ones on 
+ * {@link FloatBuffer}; sources must have the same first dimension 
+ * and at least the same size. {@link #parallelMap(FloatRangeOperator)} 
+ * and {@link #parallelReduce(Object, FloatRangeFunction, BinaryOperator)} 
+ * split the buffer by row and into chunks of a grain size and run 
+ * the chunks on a {@link ForkJoinPool} while the calling thread 
+ * holds the buffer lock.
  *
  * @author Roth Michaels 
  * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
  *
  */
-public class Float2DBuffer extends ArrayBuffer<float[][]> {
+public class Float2DBuffer extends Array2DBuffer<float[][]> {
+
+	/** Default number of elements per parallel task */
+	public static final int DEFAULT_GRAIN_SIZE = 1 << 14;
+
+	/** Stripe locks, with versioned write locks, null unless striped */
+	private final ReadWriteLock[] rowLocks;
 
-	private final int firstDim;
-	
 	/**
-	 * @param type
-	 * @param size
+	 * @param dim1 first dimension
+	 * @param dim2 second dimension (buffer size)
 	 */
 	public Float2DBuffer(int dim1, int dim2) {
-		super(float[][].class, dim2);
-		firstDim = dim1;
-		buffer = new float[dim1][dim2];
+		this(dim1, dim2, new ReentrantReadWriteLock());
 	}
 
 	/**
-	 * @see us.rothmichaels.concurrency.buffers.ArrayBuffer#clear()
+	 * @param dim1 first dimension
+	 * @param dim2 second dimension (buffer size)
+	 * @param lock lock guarding the buffer
+	 */
+	public Float2DBuffer(int dim1, int dim2, ReadWriteLock lock) {
+		super(new float[dim1][dim2], dim1, dim2, lock);
+		this.rowLocks = null;
+	}
+	
+	/**
+	 * @param dim1 first dimension
+	 * @param dim2 second dimension (buffer size)
+	 * @param striped 
+	 *  true to lock each row separately, rows added by 
+	 *  {@link #resize(int, int)} share the locks of earlier rows
+	 */
+	public Float2DBuffer(int dim1, int dim2, boolean striped) {
+		this(dim1, dim2, striped, LockPolicy.NON_FAIR);
+	}
+	
+	/**
+	 * @param dim1 first dimension
+	 * @param dim2 second dimension (buffer size)
+	 * @param policy ordering policy of the lock guarding the buffer
+	 */
+	public Float2DBuffer(int dim1, int dim2, LockPolicy policy) {
+		this(dim1, dim2, policy.newLock());
+	}
+	
+	/**
+	 * @param dim1 first dimension
+	 * @param dim2 second dimension (buffer size)
+	 * @param striped true to lock each row separately
+	 * @param policy ordering policy of the buffer or row locks
+	 */
+	public Float2DBuffer(int dim1, int dim2, boolean striped, LockPolicy policy) {
+		this(dim1, dim2, striped ? newRowLocks(dim1, policy) : null, policy);
+	}
+	
+	private Float2DBuffer(int dim1, int dim2, ReadWriteLock[] rowLocks, 
+			LockPolicy policy) {
+		super(new float[dim1][dim2], dim1, dim2, (rowLocks == null) 
+				? policy.newLock() 
+				: new ReadWriteLockCollection(Arrays.asList(rowLocks)));
+		if (rowLocks != null) {
+			for (int i = 0; i < rowLocks.length; ++i) {
+				rowLocks[i] = versioned(rowLocks[i]);
+			}
+		}
+		this.rowLocks = rowLocks;
+	}
+	
+	private static ReadWriteLock[] newRowLocks(int dim1, LockPolicy policy) {
+		ReadWriteLock[] locks = new ReadWriteLock[Math.max(1, dim1)];
+		for (int i = 0; i < locks.length; ++i) {
+			locks[i] = policy.newLock();
+		}
+		return locks;
+	}
+	
+	/**
+	 * Rows of a striped buffer are guarded by one lock per row it was 
+	 * created with, row {@code i} by stripe {@code i % stripes}.
+	 * 
+	 * @return true if rows are locked separately
+	 */
+	public boolean isStriped() {
+		return rowLocks != null;
+	}
+	
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.Array2DBuffer#rowLock(int)
 	 */
 	@Override
-	public void clear() {
+	public ReadWriteLock rowLock(int i) {
+		if (rowLocks == null) {
+			return super.rowLock(i);
+		}
+		if (i < 0 || i >= firstDim) {
+			throw new ArrayIndexOutOfBoundsException(i);
+		}
+		return rowLocks[i % rowLocks.length];
+	}
+	
+	/**
+	 * Read a single value under the row's read lock. Values at or 
+	 * past the lazy clear watermark read as zero.
+	 * 
+	 * @param row index into the first dimension
+	 * @param index index into the second dimension
+	 * @return the value at {@code [row][index]}
+	 * @throws ArrayIndexOutOfBoundsException
+	 *  if {@code index} is not within the current size
+	 */
+	public float get(int row, int index) {
+		Lock lock = rowLock(row).readLock();
+		lock.lock();
+		try {
+			checkIndex(index);
+			return (index < watermark) ? buffer[row][index] : 0f;
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Write a single value under the row's write lock. Writing past 
+	 * the lazy clear watermark takes the whole buffer lock instead, 
+	 * as {@link #writeFrom(int, float[], int, int, int)} does.
+	 * 
+	 * @param row index into the first dimension
+	 * @param index index into the second dimension
+	 * @param value value to write
+	 * @throws ArrayIndexOutOfBoundsException
+	 *  if {@code index} is not within the current size
+	 */
+	public void set(int row, int index, float value) {
+		Lock lock = rowLock(row).writeLock();
+		lock.lock();
+		if (index >= watermark) {
+			lock.unlock();
+			lock = writeLock();
+			lock.lock();
+		}
+		try {
+			checkIndex(index);
+			if (index >= watermark) {
+				zeroTo(index + 1);
+			}
+			buffer[row][index] = value;
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new ArrayIndexOutOfBoundsException(index);
+		}
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.Array2DBuffer#newArray(int, int)
+	 */
+	@Override
+	protected float[][] newArray(int dim1, int dim2) {
+		return new float[dim1][dim2];
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.Array2DBuffer#zeroRow(int, int, int)
+	 */
+	@Override
+	protected void zeroRow(int i, int from, int to) {
+		Arrays.fill(buffer[i], from, to, 0f);
+	}
+
+	/**
+	 * Copy out of one row, holding only the row's read lock 
+	 * for the copy.
+	 * 
+	 * @param row index into the first dimension
+	 * @param dst destination array
+	 * @param srcOff offset into the row
+	 * @param dstOff offset into {@code dst}
+	 * @param len number of elements
+	 * @throws IndexOutOfBoundsException 
+	 *  if the range is not within the size or {@code dst}
+	 */
+	public void readInto(int row, float[] dst, int srcOff, int dstOff, int len) {
+		Lock lock = rowLock(row).readLock();
+		lock.lock();
+		try {
+			FloatBuffer.checkRange(srcOff, len, size);
+			FloatBuffer.copyOut(buffer[row], dst, srcOff, dstOff, len, watermark);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Copy into one row, holding only the row's write lock for the 
+	 * copy. Writing past the lazy clear watermark takes the whole 
+	 * buffer lock instead, since the watermark is shared by all rows.
+	 * 
+	 * @param row index into the first dimension
+	 * @param src source array
+	 * @param srcOff offset into {@code src}
+	 * @param dstOff offset into the row
+	 * @param len number of elements
+	 * @throws IndexOutOfBoundsException 
+	 *  if the range is not within the size or {@code src}
+	 */
+	public void writeFrom(int row, float[] src, int srcOff, int dstOff, int len) {
+		Lock lock = rowLock(row).writeLock();
+		lock.lock();
+		if (dstOff + len > watermark) {
+			lock.unlock();
+			lock = writeLock();
+			lock.lock();
+		}
+		try {
+			FloatBuffer.checkRange(dstOff, len, size);
+			if (dstOff + len > watermark) {
+				zeroTo(dstOff + len);
+			}
+			System.arraycopy(src, srcOff, buffer[row], dstOff, len);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Write the contents within the current size to a channel, 
+	 * row after row, holding the read lock.
+	 * 
+	 * @param ch channel to write to
+	 * @param order byte order to write in
+	 * @return bytes written
+	 * @throws IOException if the channel fails
+	 * @see FloatBuffer#writeTo(WritableByteChannel, ByteOrder)
+	 */
+	public long writeTo(WritableByteChannel ch, ByteOrder order) throws IOException {
+		readLock().lock();
+		try {
+			int valid = Math.min(watermark, size);
+			for (float[] row : buffer) {
+				ChannelIO.writeFloats(ch, row, 0, valid, order);
+				ChannelIO.writeZeros(ch, 4L * (size - valid));
+			}
+			return 4L * size * firstDim;
+		} finally {
+			readLock().unlock();
+		}
+	}
+
+	/**
+	 * Replace the contents within the current size with data read 
+	 * from a channel, row after row, holding the write lock.
+	 * 
+	 * @param ch channel to read from
+	 * @param order byte order of the data in the channel
+	 * @throws java.io.EOFException if the channel ends before the 
+	 *  buffer is filled
+	 * @throws IOException if the channel fails
+	 */
+	public void readFrom(ReadableByteChannel ch, ByteOrder order) throws IOException {
+		writeLock().lock();
+		try {
+			zeroTo(size);
+			for (float[] row : buffer) {
+				ChannelIO.readFloats(ch, row, 0, size, order);
+			}
+		} finally {
+			writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Set every element within the size to {@code value}.
+	 * 
+	 * @param value value to fill with
+	 */
+	public void fill(float value) {
 		writeLock().lock();
-		buffer = new float[firstDim][size];
+		for (float[] row : buffer) {
+			Arrays.fill(row, 0, size, value);
+		}
+		watermark = size;
 		writeLock().unlock();
 	}
-	
-	public void clear(int i) {
+
+	/**
+	 * Multiply every element by {@code gain}.
+	 * 
+	 * @param gain gain to apply
+	 */
+	public void scale(float gain) {
 		writeLock().lock();
-		Arrays.fill(buffer[i], 0, size, 0f);
+		int valid = Math.min(watermark, size);
+		for (float[] row : buffer) {
+			FloatOps.scale(row, 0, valid, gain);
+		}
 		writeLock().unlock();
 	}
 
 	/**
-	 * @see us.rothmichaels.concurrency.buffers.ArrayBuffer#setSize(int)
+	 * Multiply one row by {@code gain}, under the row's write lock.
+	 * 
+	 * @param row index into the first dimension
+	 * @param gain gain to apply
 	 */
-	@Override
-	public void setSize(int size) {
-		if (size < 0) {
-			throw new IllegalArgumentException("Size can't be negative.");
+	public void scale(int row, float gain) {
+		Lock lock = rowLock(row).writeLock();
+		lock.lock();
+		FloatOps.scale(buffer[row], 0, Math.min(watermark, size), gain);
+		lock.unlock();
+	}
+
+	/**
+	 * Add {@code src} to this buffer element-wise.
+	 * 
+	 * @param src buffer to add
+	 */
+	public void add(Float2DBuffer src) {
+		Lock[] locks = OrderedLocks.lock(this, src);
+		try {
+			int n = validSize(src);
+			zeroTo(size);
+			for (int i = 0; i < firstDim; ++i) {
+				FloatOps.add(buffer[i], src.buffer[i], 0, n);
+			}
+		} finally {
+			OrderedLocks.unlock(locks);
+		}
+	}
+
+	/**
+	 * Add {@code src} scaled by {@code gain} to this buffer.
+	 * 
+	 * @param src buffer to mix in
+	 * @param gain gain applied to {@code src}
+	 */
+	public void mix(Float2DBuffer src, float gain) {
+		Lock[] locks = OrderedLocks.lock(this, src);
+		try {
+			int n = validSize(src);
+			zeroTo(size);
+			for (int i = 0; i < firstDim; ++i) {
+				FloatOps.mix(buffer[i], src.buffer[i], gain, 0, n);
+			}
+		} finally {
+			OrderedLocks.unlock(locks);
+		}
+	}
+
+	/**
+	 * Add the element-wise product of {@code a} and {@code b} 
+	 * to this buffer.
+	 * 
+	 * @param a first factor
+	 * @param b second factor
+	 */
+	public void multiplyAccumulate(Float2DBuffer a, Float2DBuffer b) {
+		Lock[] locks = OrderedLocks.lock(this, a, b);
+		try {
+			int n = Math.min(validSize(a), validSize(b));
+			zeroTo(size);
+			for (int i = 0; i < firstDim; ++i) {
+				FloatOps.multiplyAccumulate(buffer[i], a.buffer[i], b.buffer[i], 0, n);
+			}
+		} finally {
+			OrderedLocks.unlock(locks);
+		}
+	}
+
+	/**
+	 * NaN elements are skipped.
+	 * 
+	 * @return smallest element, 
+	 *  positive infinity if the buffer is empty
+	 */
+	public float min() {
+		readLock().lock();
+		int valid = Math.min(watermark, size);
+		float min = Float.POSITIVE_INFINITY;
+		for (float[] row : buffer) {
+			min = Math.min(min, FloatOps.min(row, 0, valid));
+		}
+		readLock().unlock();
+		return (valid < size && firstDim > 0) ? Math.min(min, 0f) : min;
+	}
+
+	/**
+	 * NaN elements are skipped.
+	 * 
+	 * @return largest element, 
+	 *  negative infinity if the buffer is empty
+	 */
+	public float max() {
+		readLock().lock();
+		int valid = Math.min(watermark, size);
+		float max = Float.NEGATIVE_INFINITY;
+		for (float[] row : buffer) {
+			max = Math.max(max, FloatOps.max(row, 0, valid));
+		}
+		readLock().unlock();
+		return (valid < size && firstDim > 0) ? Math.max(max, 0f) : max;
+	}
+
+	/**
+	 * @return sum of the elements
+	 */
+	public float sum() {
+		readLock().lock();
+		int valid = Math.min(watermark, size);
+		float sum = 0f;
+		for (float[] row : buffer) {
+			sum += FloatOps.sum(row, 0, valid);
+		}
+		readLock().unlock();
+		return sum;
+	}
+
+	/**
+	 * Transform the buffer in place in parallel on the common pool.
+	 * 
+	 * @param op operator applied to every chunk
+	 * @see #parallelMap(FloatRangeOperator, ForkJoinPool, int)
+	 */
+	public void parallelMap(FloatRangeOperator op) {
+		parallelMap(op, ForkJoinPool.commonPool(), DEFAULT_GRAIN_SIZE);
+	}
+
+	/**
+	 * Transform the buffer in place in parallel. Every row is split 
+	 * into chunks of {@code grain} elements; the chunks are run as 
+	 * tasks on {@code pool} while this thread holds the write lock.
+	 * 
+	 * @param op operator applied to every chunk
+	 * @param pool pool to run on
+	 * @param grain maximum elements per task
+	 */
+	public void parallelMap(FloatRangeOperator op, ForkJoinPool pool, int grain) {
+		if (grain <= 0) {
+			throw new IllegalArgumentException("Bad grain size");
 		}
 		writeLock().lock();
-		this.size = size;
-		clear();
-		writeLock().unlock();
+		try {
+			zeroTo(size);
+			int blocks = Math.multiplyExact(firstDim, Float2DTasks.chunksPerRow(size, grain));
+			pool.invoke(new Float2DTasks.Map(buffer, size, grain, op, 0, blocks));
+		} finally {
+			writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Reduce the buffer in parallel on the common pool.
+	 * 
+	 * @param identity result for an empty buffer
+	 * @param function function of every chunk
+	 * @param combiner combines chunk results, must be associative
+	 * @param <R> result type
+	 * @return combined result
+	 * @see #parallelReduce(Object, FloatRangeFunction, BinaryOperator, ForkJoinPool, int)
+	 */
+	public <R> R parallelReduce(R identity, FloatRangeFunction<R> function, 
+			BinaryOperator<R> combiner) {
+		return parallelReduce(identity, function, combiner, 
+				ForkJoinPool.commonPool(), DEFAULT_GRAIN_SIZE);
+	}
+
+	/**
+	 * Reduce the buffer in parallel. Every row is split into chunks 
+	 * of {@code grain} elements; the chunks are run as tasks on 
+	 * {@code pool} while this thread holds the read lock (the write 
+	 * lock if lazily cleared contents must be zeroed first). 
+	 * Results are combined in row, then index, order.
+	 * 
+	 * @param identity result for an empty buffer
+	 * @param function function of every chunk
+	 * @param combiner combines chunk results, must be associative
+	 * @param pool pool to run on
+	 * @param grain maximum elements per task
+	 * @param <R> result type
+	 * @return combined result
+	 */
+	public <R> R parallelReduce(R identity, FloatRangeFunction<R> function, 
+			BinaryOperator<R> combiner, ForkJoinPool pool, int grain) {
+		if (grain <= 0) {
+			throw new IllegalArgumentException("Bad grain size");
+		}
+		Lock lock = readLock();
+		lock.lock();
+		try {
+			if (watermark < size) {
+				lock.unlock();
+				lock = writeLock();
+				lock.lock();
+				zeroTo(size);
+			}
+			int blocks = Math.multiplyExact(firstDim, Float2DTasks.chunksPerRow(size, grain));
+			return pool.invoke(new Float2DTasks.Reduce<R>(buffer, size, grain, 
+					identity, function, combiner, 0, blocks));
+		} finally {
+			lock.unlock();
+		}
 	}
 
+	/**
+	 * Number of elements of each row of {@code src} to read for an 
+	 * operation on this buffer. Caller must hold the locks.
+	 */
+	private int validSize(Float2DBuffer src) {
+		if (src.firstDim != firstDim || src.size < size) {
+			throw new IllegalArgumentException("Source buffer doesn't match.");
+		}
+		return Math.min(size, src.watermark);
+	}
 }
@@ -0,0 +1,152 @@
+/*
+ * Float2DTasks.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/**
+ * Fork/join tasks splitting a {@code float[][]} into blocks of at 
+ * most one row by {@code grain} elements. Tasks split the block 
+ * range in half until one block is left. The caller holds the 
+ * buffer lock for the whole invocation.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+final class Float2DTasks {
+	
+	private Float2DTasks() {
+	}
+	
+	/**
+	 * @return number of blocks each row is split into
+	 */
+	static int chunksPerRow(int size, int grain) {
+		return (int) ((size + (long) grain - 1) / grain);
+	}
+	
+	/**
+	 * Applies an operator to a range of blocks.
+	 */
+	@SuppressWarnings("serial")
+	static final class Map extends RecursiveAction {
+		private final float[][] data;
+		private final int size;
+		private final int grain;
+		private final int chunks;
+		private final FloatRangeOperator op;
+		private final int lo;
+		private final int hi;
+		
+		Map(float[][] data, int size, int grain, FloatRangeOperator op, int lo, int hi) {
+			this.data = data;
+			this.size = size;
+			this.grain = grain;
+			this.chunks = chunksPerRow(size, grain);
+			this.op = op;
+			this.lo = lo;
+			this.hi = hi;
+		}
+
+		@Override
+		protected void compute() {
+			if (hi - lo > 1) {
+				int mid = (lo + hi) >>> 1;
+				invokeAll(new Map(data, size, grain, op, lo, mid), 
+						new Map(data, size, grain, op, mid, hi));
+			} else if (hi > lo) {
+				int row = lo / chunks;
+				int from = (lo % chunks) * grain;
+				op.apply(row, data[row], from, Math.min(size, from + grain));
+			}
+		}
+	}
+	
+	/**
+	 * Reduces a range of blocks.
+	 */
+	@SuppressWarnings("serial")
+	static final class Reduce<R> extends RecursiveTask<R> {
+		private final float[][] data;
+		private final int size;
+		private final int grain;
+		private final int chunks;
+		private final R identity;
+		private final FloatRangeFunction<R> function;
+		private final BinaryOperator<R> combiner;
+		private final int lo;
+		private final int hi;
+		
+		Reduce(float[][] data, int size, int grain, R identity, 
+				FloatRangeFunction<R> function, BinaryOperator<R> combiner, 
+				int lo, int hi) {
+			this.data = data;
+			this.size = size;
+			this.grain = grain;
+			this.chunks = chunksPerRow(size, grain);
+			this.identity = identity;
+			this.function = function;
+			this.combiner = combiner;
+			this.lo = lo;
+			this.hi = hi;
+		}
+
+		@Override
+		protected R compute() {
+			if (hi - lo > 1) {
+				int mid = (lo + hi) >>> 1;
+				Reduce<R> left = new Reduce<R>(data, size, grain, identity, 
+						function, combiner, lo, mid);
+				Reduce<R> right = new Reduce<R>(data, size, grain, identity, 
+						function, combiner, mid, hi);
+				left.fork();
+				R r = right.compute();
+				return combiner.apply(left.join(), r);
+			} else if (hi > lo) {
+				int row = lo / chunks;
+				int from = (lo % chunks) * grain;
+				return function.apply(row, data[row], from, Math.min(size, from + grain));
+			} else {
+				return identity;
+			}
+		}
+	}
+}
@@ -37,8 +37,27 @@
  */
 package us.rothmichaels.concurrency.buffers;
 
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import us.rothmichaels.concurrency.locks.LockPolicy;
+import us.rothmichaels.concurrency.locks.RangeReadWriteLock;
+
 /**
  * Read/Write lockable primitive float buffer.
+ * 
+ * The bulk operations ({@link #fill(float)}, {@link #scale(float)}, 
+ * {@link #add(FloatBuffer)}, {@link #mix(FloatBuffer, float)}, 
+ * {@link #multiplyAccumulate(FloatBuffer, FloatBuffer)}, 
+ * {@link #min()}, {@link #max()}, {@link #sum()}) take the locks 
+ * they need themselves and work on the current size. Operations 
+ * over several buffers lock them in a fixed global order.
  *
  * @author Roth Michaels 
  * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
@@ -46,10 +65,324 @@ package us.rothmichaels.concurrency.buffers;
  */
 public class FloatBuffer extends ArrayBuffer<float[]> {
 
+	/** Lock guarding the buffer if it locks ranges, otherwise null */
+	private final RangeReadWriteLock ranges;
+
 	/**
 	 * @param size initial buffer size
 	 */
 	public FloatBuffer(int size) {
-		super(float[].class, size);
+		this(size, new ReentrantReadWriteLock());
+	}
+
+	/**
+	 * @param size initial buffer size
+	 * @param lock 
+	 *  lock guarding the buffer, a {@link RangeReadWriteLock} allows 
+	 *  locking parts of the buffer with {@link #rangeLock(int, int)}
+	 */
+	public FloatBuffer(int size, ReadWriteLock lock) {
+		super(new float[size], size, lock);
+		this.ranges = (lock instanceof RangeReadWriteLock) ? (RangeReadWriteLock) lock : null;
+		if (ranges != null) {
+			ranges.addRangeWriteListener(this::versionChanged);
+		}
+	}
+
+	/**
+	 * @param size initial buffer size
+	 * @param policy ordering policy of the lock guarding the buffer
+	 */
+	public FloatBuffer(int size, LockPolicy policy) {
+		this(size, policy.newLock());
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.ArrayBuffer#newArray(int)
+	 */
+	@Override
+	protected float[] newArray(int size) {
+		return new float[size];
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.ArrayBuffer#fill(int, int)
+	 */
+	@Override
+	protected void fill(int from, int to) {
+		Arrays.fill(buffer, from, to, 0f);
+	}
+
+	/**
+	 * Lock guarding {@code [from, to)}. Holding a range lock allows 
+	 * access to the contents of that range but not changing the size 
+	 * or the lazy clear watermark. 
+	 * 
+	 * Ranges are locked separately if the buffer is guarded by a 
+	 * {@link RangeReadWriteLock}, otherwise every range is guarded 
+	 * by the whole buffer lock. Releasing a range write lock bumps 
+	 * the version either way.
+	 * 
+	 * @param from first index of the range
+	 * @param to index past the end of the range
+	 * @return lock for {@code [from, to)}
+	 * @throws IndexOutOfBoundsException 
+	 *  if {@code from} is negative or greater than {@code to}
+	 */
+	public ReadWriteLock rangeLock(int from, int to) {
+		if (from < 0 || from > to) {
+			throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ")");
+		}
+		if (ranges == null) {
+			return this;
+		}
+		return ranges.range(from, to);
+	}
+
+	/**
+	 * Copy out of the buffer, holding the read lock of the range only 
+	 * for the copy.
+	 * 
+	 * @param dst destination array
+	 * @param srcOff offset into this buffer
+	 * @param dstOff offset into {@code dst}
+	 * @param len number of elements
+	 * @throws IndexOutOfBoundsException 
+	 *  if the range is not within the size or {@code dst}
+	 */
+	public void readInto(float[] dst, int srcOff, int dstOff, int len) {
+		checkRange(srcOff, len, Integer.MAX_VALUE);
+		Lock lock = rangeLock(srcOff, srcOff + len).readLock();
+		lock.lock();
+		try {
+			checkRange(srcOff, len, size);
+			copyOut(buffer, dst, srcOff, dstOff, len, watermark);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Copy into the buffer, holding the write lock of the range only 
+	 * for the copy. Writing past the lazy clear watermark takes the 
+	 * whole buffer lock instead.
+	 * 
+	 * @param src source array
+	 * @param srcOff offset into {@code src}
+	 * @param dstOff offset into this buffer
+	 * @param len number of elements
+	 * @throws IndexOutOfBoundsException 
+	 *  if the range is not within the size or {@code src}
+	 */
+	public void writeFrom(float[] src, int srcOff, int dstOff, int len) {
+		checkRange(dstOff, len, Integer.MAX_VALUE);
+		Lock lock = rangeLock(dstOff, dstOff + len).writeLock();
+		lock.lock();
+		if (dstOff + len > watermark && lock != writeLock()) {
+			lock.unlock();
+			lock = writeLock();
+			lock.lock();
+		}
+		try {
+			checkRange(dstOff, len, size);
+			if (dstOff > watermark) {
+				zeroTo(dstOff);
+			}
+			System.arraycopy(src, srcOff, buffer, dstOff, len);
+			if (dstOff + len > watermark) {
+				watermark = dstOff + len;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Write the contents within the current size to a channel, 
+	 * holding the read lock. The floats are converted to bytes 
+	 * through a reused direct chunk, with no temporary arrays.
+	 * 
+	 * @param ch channel to write to
+	 * @param order byte order to write in
+	 * @return bytes written
+	 * @throws IOException if the channel fails
+	 */
+	public long writeTo(WritableByteChannel ch, ByteOrder order) throws IOException {
+		readLock().lock();
+		try {
+			int valid = Math.min(watermark, size);
+			ChannelIO.writeFloats(ch, buffer, 0, valid, order);
+			ChannelIO.writeZeros(ch, 4L * (size - valid));
+			return 4L * size;
+		} finally {
+			readLock().unlock();
+		}
+	}
+
+	/**
+	 * Replace the contents within the current size with data read 
+	 * from a channel, holding the write lock.
+	 * 
+	 * @param ch channel to read from
+	 * @param order byte order of the data in the channel
+	 * @throws java.io.EOFException if the channel ends before the 
+	 *  buffer is filled
+	 * @throws IOException if the channel fails
+	 */
+	public void readFrom(ReadableByteChannel ch, ByteOrder order) throws IOException {
+		writeLock().lock();
+		try {
+			zeroTo(size);
+			ChannelIO.readFloats(ch, buffer, 0, size, order);
+		} finally {
+			writeLock().unlock();
+		}
+	}
+
+	/**
+	 * @throws IndexOutOfBoundsException 
+	 *  if {@code [off, off + len)} is not within {@code [0, size)}
+	 */
+	static void checkRange(int off, int len, int size) {
+		if (off < 0 || len < 0 || off > size - len) {
+			throw new IndexOutOfBoundsException(
+					"Range [" + off + ", " + off + " + " + len + ") out of bounds for size " + size);
+		}
+	}
+
+	/**
+	 * Copy {@code src[srcOff, srcOff + len)} to {@code dst}, 
+	 * reading elements at or past {@code watermark} as zero.
+	 */
+	static void copyOut(float[] src, float[] dst, int srcOff, int dstOff, int len, int watermark) {
+		int valid = Math.max(0, Math.min(len, watermark - srcOff));
+		System.arraycopy(src, srcOff, dst, dstOff, valid);
+		if (valid < len) {
+			Arrays.fill(dst, dstOff + valid, dstOff + len, 0f);
+		}
+	}
+
+	/**
+	 * Set every element within the size to {@code value}.
+	 * 
+	 * @param value value to fill with
+	 */
+	public void fill(float value) {
+		writeLock().lock();
+		Arrays.fill(buffer, 0, size, value);
+		watermark = size;
+		writeLock().unlock();
+	}
+
+	/**
+	 * Multiply every element by {@code gain}.
+	 * 
+	 * @param gain gain to apply
+	 */
+	public void scale(float gain) {
+		writeLock().lock();
+		FloatOps.scale(buffer, 0, Math.min(watermark, size), gain);
+		writeLock().unlock();
+	}
+
+	/**
+	 * Add {@code src} to this buffer element-wise.
+	 * 
+	 * @param src buffer to add, at least as big as this one
+	 */
+	public void add(FloatBuffer src) {
+		Lock[] locks = OrderedLocks.lock(this, src);
+		try {
+			int n = validSize(src);
+			zeroTo(size);
+			FloatOps.add(buffer, src.buffer, 0, n);
+		} finally {
+			OrderedLocks.unlock(locks);
+		}
+	}
+
+	/**
+	 * Add {@code src} scaled by {@code gain} to this buffer.
+	 * 
+	 * @param src buffer to mix in, at least as big as this one
+	 * @param gain gain applied to {@code src}
+	 */
+	public void mix(FloatBuffer src, float gain) {
+		Lock[] locks = OrderedLocks.lock(this, src);
+		try {
+			int n = validSize(src);
+			zeroTo(size);
+			FloatOps.mix(buffer, src.buffer, gain, 0, n);
+		} finally {
+			OrderedLocks.unlock(locks);
+		}
+	}
+
+	/**
+	 * Add the element-wise product of {@code a} and {@code b} 
+	 * to this buffer.
+	 * 
+	 * @param a first factor, at least as big as this buffer
+	 * @param b second factor, at least as big as this buffer
+	 */
+	public void multiplyAccumulate(FloatBuffer a, FloatBuffer b) {
+		Lock[] locks = OrderedLocks.lock(this, a, b);
+		try {
+			int n = Math.min(validSize(a), validSize(b));
+			zeroTo(size);
+			FloatOps.multiplyAccumulate(buffer, a.buffer, b.buffer, 0, n);
+		} finally {
+			OrderedLocks.unlock(locks);
+		}
+	}
+
+	/**
+	 * NaN elements are skipped.
+	 * 
+	 * @return smallest element, 
+	 *  positive infinity if the buffer is empty
+	 */
+	public float min() {
+		readLock().lock();
+		int valid = Math.min(watermark, size);
+		float min = FloatOps.min(buffer, 0, valid);
+		readLock().unlock();
+		return (valid < size) ? Math.min(min, 0f) : min;
+	}
+
+	/**
+	 * NaN elements are skipped.
+	 * 
+	 * @return largest element, 
+	 *  negative infinity if the buffer is empty
+	 */
+	public float max() {
+		readLock().lock();
+		int valid = Math.min(watermark, size);
+		float max = FloatOps.max(buffer, 0, valid);
+		readLock().unlock();
+		return (valid < size) ? Math.max(max, 0f) : max;
+	}
+
+	/**
+	 * @return sum of the elements
+	 */
+	public float sum() {
+		readLock().lock();
+		float sum = FloatOps.sum(buffer, 0, Math.min(watermark, size));
+		readLock().unlock();
+		return sum;
+	}
+
+	/**
+	 * Number of elements of {@code src} to read for an operation 
+	 * on this buffer; past that {@code src} is logically zero. 
+	 * Caller must hold the locks.
+	 */
+	private int validSize(FloatBuffer src) {
+		if (src.size < size) {
+			throw new IllegalArgumentException("Source buffer too small.");
+		}
+		return Math.min(size, src.watermark);
 	}
 }
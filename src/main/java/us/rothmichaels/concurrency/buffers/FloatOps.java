@@ -0,0 +1,141 @@
+/*
+ * FloatOps.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+/**
+ * Bulk arithmetic kernels over {@code float[]} ranges.
+ * 
+ * The loops are kept simple (counted, no calls, no branches on the 
+ * data) so the JIT can unroll and vectorize them. Reductions use 
+ * several independent accumulators since floating point addition 
+ * may not be reordered by the compiler.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+final class FloatOps {
+	
+	private FloatOps() {
+	}
+
+	/**
+	 * {@code a[i] *= gain}
+	 */
+	static void scale(float[] a, int from, int to, float gain) {
+		for (int i = from; i < to; ++i) {
+			a[i] *= gain;
+		}
+	}
+
+	/**
+	 * {@code dst[i] += src[i]}
+	 */
+	static void add(float[] dst, float[] src, int from, int to) {
+		for (int i = from; i < to; ++i) {
+			dst[i] += src[i];
+		}
+	}
+
+	/**
+	 * {@code dst[i] += gain * src[i]}
+	 */
+	static void mix(float[] dst, float[] src, float gain, int from, int to) {
+		for (int i = from; i < to; ++i) {
+			dst[i] += gain * src[i];
+		}
+	}
+
+	/**
+	 * {@code dst[i] += a[i] * b[i]}
+	 */
+	static void multiplyAccumulate(float[] dst, float[] a, float[] b, int from, int to) {
+		for (int i = from; i < to; ++i) {
+			dst[i] += a[i] * b[i];
+		}
+	}
+
+	/**
+	 * A plain compare and select, unlike {@link Math#min(float, float)}, 
+	 * so the loop can be vectorized. NaN values are skipped.
+	 * 
+	 * @return smallest value in {@code a[from, to)}, 
+	 *  positive infinity if the range is empty
+	 */
+	static float min(float[] a, int from, int to) {
+		float m = Float.POSITIVE_INFINITY;
+		for (int i = from; i < to; ++i) {
+			float v = a[i];
+			m = (v < m) ? v : m;
+		}
+		return m;
+	}
+
+	/**
+	 * A plain compare and select, see {@link #min(float[], int, int)}.
+	 * 
+	 * @return largest value in {@code a[from, to)}, 
+	 *  negative infinity if the range is empty
+	 */
+	static float max(float[] a, int from, int to) {
+		float m = Float.NEGATIVE_INFINITY;
+		for (int i = from; i < to; ++i) {
+			float v = a[i];
+			m = (v > m) ? v : m;
+		}
+		return m;
+	}
+
+	/**
+	 * @return sum of {@code a[from, to)}
+	 */
+	static float sum(float[] a, int from, int to) {
+		float s0 = 0f, s1 = 0f, s2 = 0f, s3 = 0f;
+		int i = from;
+		for (int end = to - 3; i < end; i += 4) {
+			s0 += a[i];
+			s1 += a[i + 1];
+			s2 += a[i + 2];
+			s3 += a[i + 3];
+		}
+		for (; i < to; ++i) {
+			s0 += a[i];
+		}
+		return (s0 + s1) + (s2 + s3);
+	}
+}
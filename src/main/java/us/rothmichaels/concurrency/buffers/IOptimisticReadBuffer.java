@@ -0,0 +1,84 @@
+/*
+ * IOptimisticReadBuffer.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+/**
+ * A {@link IReadWriteLockedBuffer} that also supports optimistic reads.
+ *
+ * An optimistic read does not acquire a lock and does not write
+ * to any shared state, so concurrent readers do not contend with
+ * each other. Readers must copy whatever they need out of the buffer
+ * and then validate the stamp; if validation fails the copied values
+ * may be inconsistent and the read must be retried, usually under
+ * {@link #readLock()}:
+ *
+ * <pre>
+ * long stamp = buffer.tryOptimisticRead();
+ * float[] data = buffer.getDataRef();
+ * float value = (i &lt; data.length) ? data[i] : 0f;
+ * if (!buffer.validate(stamp)) {
+ *     buffer.readLock().lock();
+ *     value = buffer.getDataRef()[i];
+ *     buffer.readLock().unlock();
+ * }
+ * </pre>
+ *
+ * @author Roth Michaels
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ * @param <T> Buffer data type
+ */
+public interface IOptimisticReadBuffer<T> extends IReadWriteLockedBuffer<T> {
+
+	/**
+	 * Start an optimistic read.
+	 *
+	 * @return a stamp to pass to {@link #validate(long)},
+	 *  or zero if the buffer is currently write locked
+	 */
+	long tryOptimisticRead();
+
+	/**
+	 * Check that no write lock has been acquired since the
+	 * given stamp was issued.
+	 *
+	 * @param stamp stamp from {@link #tryOptimisticRead()}
+	 * @return true if values read since the stamp was issued are consistent
+	 */
+	boolean validate(long stamp);
+}
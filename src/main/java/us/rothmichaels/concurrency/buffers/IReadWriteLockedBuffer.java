@@ -37,14 +37,19 @@
  */
 package us.rothmichaels.concurrency.buffers;
 
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * An interface for buffers where client threads must 
  * manually request a read or write lock.
  * 
  * The lock is provided through the 
- * {@link java.util.concurrent.locks.ReadWriteLock} interface.
+ * {@link java.util.concurrent.locks.ReadWriteLock} interface, or 
+ * scoped to a lambda with {@link #read(Function)} and 
+ * {@link #write(Consumer)}.
  *
  * @author Roth Michaels 
  * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
@@ -93,4 +98,49 @@ public interface IReadWriteLockedBuffer<T> extends ReadWriteLock {
 	 * @return class of the internal data structure
 	 */
 	Class<T> getDataClass();
+	
+	/**
+	 * Apply {@code reader} to the internal data while holding the 
+	 * read lock. The lock is released even if {@code reader} throws.
+	 * 
+	 * The data must not be kept past the call. Calls may be nested 
+	 * on one buffer only if its lock is reentrant: with a 
+	 * non-reentrant lock, such as 
+	 * {@link java.util.concurrent.locks.StampedLock#asReadWriteLock()}, 
+	 * a nested read deadlocks once a writer waits and a nested 
+	 * write always deadlocks.
+	 * 
+	 * @param reader function of the internal data
+	 * @param <R> result type
+	 * @return result of {@code reader}
+	 */
+	default <R> R read(Function<? super T, ? extends R> reader) {
+		Lock lock = readLock();
+		lock.lock();
+		try {
+			return reader.apply(getDataRef());
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Pass the internal data to {@code writer} while holding the 
+	 * write lock. The lock is released even if {@code writer} throws.
+	 * 
+	 * The data must not be kept past the call. Calls may be nested 
+	 * on one buffer only if its lock is reentrant, see 
+	 * {@link #read(Function)}.
+	 * 
+	 * @param writer consumer of the internal data
+	 */
+	default void write(Consumer<? super T> writer) {
+		Lock lock = writeLock();
+		lock.lock();
+		try {
+			writer.accept(getDataRef());
+		} finally {
+			lock.unlock();
+		}
+	}
 }
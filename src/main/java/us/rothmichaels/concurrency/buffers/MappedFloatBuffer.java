@@ -0,0 +1,347 @@
+/*
+ * MappedFloatBuffer.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.io.EOFException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Read/Write lockable float buffer backed by a memory-mapped file.
+ * 
+ * The file starts with a {@value #HEADER_BYTES} byte header followed 
+ * by the float data in the byte order recorded in the header. 
+ * Header fields, stored big-endian:
+ * 
+ * <pre>
+ * offset  type   field
+ * 0       int    magic ({@value #MAGIC})
+ * 4       short  format version ({@value #VERSION})
+ * 6       byte   element type ({@value #TYPE_FLOAT} = float)
+ * 7       byte   data byte order (0 = big-endian, 1 = little-endian)
+ * 8       int    first dimension (1 for a one dimensional buffer)
+ * 12      int    size
+ * </pre>
+ * 
+ * Changes are visible to other processes mapping the same file; 
+ * {@link #force()} writes them to the storage device. The buffer's 
+ * locks only coordinate threads within this process.
+ * 
+ * Channel transfers in the file's byte order use 
+ * {@link FileChannel#transferTo(long, long, WritableByteChannel)} and 
+ * {@link FileChannel#transferFrom(ReadableByteChannel, long, long)}, 
+ * which the operating system may perform without copying through 
+ * user space.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class MappedFloatBuffer extends DirectFloatBuffer {
+
+	/** Size of the file header in bytes */
+	public static final int HEADER_BYTES = 64;
+	/** File magic number */
+	public static final int MAGIC = 0x524D4246;
+	/** File format version */
+	public static final short VERSION = 1;
+	/** Element type code for float data */
+	public static final byte TYPE_FLOAT = 1;
+	
+	private static final int SIZE_OFFSET = 12;
+	/** Largest number of floats a single mapping can hold */
+	private static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_BYTES) / 4;
+	
+	private final FileChannel channel;
+	private final ByteOrder order;
+	
+	private MappedFloatBuffer(FileChannel channel, int size, int capacity, 
+			ByteOrder order) {
+		super(size, new ReentrantReadWriteLock(), false);
+		this.channel = channel;
+		this.order = order;
+		this.capacity = capacity;
+		this.base = HEADER_BYTES;
+		init();
+		writeHeader();
+	}
+	
+	/**
+	 * Create a new mapped buffer, replacing any existing file.
+	 * 
+	 * @param file file to map
+	 * @param size buffer size
+	 * @return the buffer, zero filled
+	 * @throws IOException if the file can not be created or mapped
+	 */
+	public static MappedFloatBuffer create(Path file, int size) throws IOException {
+		if (size <= 0) {
+			throw new IllegalArgumentException("Bad size");
+		}
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, 
+				StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			return new MappedFloatBuffer(channel, size, size, ByteOrder.nativeOrder());
+		} catch (RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+	
+	/**
+	 * Map an existing buffer file.
+	 * 
+	 * @param file file previously written by a {@code MappedFloatBuffer}
+	 * @return the buffer with the size and contents stored in the file
+	 * @throws IOException if the file can not be mapped or has a bad header
+	 */
+	public static MappedFloatBuffer open(Path file) throws IOException {
+		FileChannel channel = FileChannel.open(file, 
+				StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+			while (header.hasRemaining()) {
+				if (channel.read(header, header.position()) < 0) {
+					throw new IOException("Truncated header: " + file);
+				}
+			}
+			header.flip();
+			if (header.getInt() != MAGIC) {
+				throw new IOException("Not a buffer file: " + file);
+			}
+			if (header.getShort() != VERSION) {
+				throw new IOException("Unsupported buffer file version: " + file);
+			}
+			if (header.get() != TYPE_FLOAT) {
+				throw new IOException("Not a float buffer: " + file);
+			}
+			ByteOrder order = (header.get() == 0) ? 
+					ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+			int dim1 = header.getInt();
+			int size = header.getInt();
+			long capacity = (channel.size() - HEADER_BYTES) / 4;
+			if (dim1 != 1 || size <= 0 || size > capacity) {
+				throw new IOException("Bad buffer dimensions: " + file);
+			}
+			return new MappedFloatBuffer(channel, size, 
+					(int) Math.min(capacity, MAX_CAPACITY), order);
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		} catch (RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Map the header and {@code elements} floats of the file, 
+	 * growing the file if needed.
+	 * 
+	 * @see us.rothmichaels.concurrency.buffers.DirectBuffer#allocate(int)
+	 */
+	@Override
+	ByteBuffer allocate(int elements) {
+		if (elements > MAX_CAPACITY) {
+			throw new IllegalArgumentException("Buffer too large: " + elements);
+		}
+		try {
+			MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_WRITE, 
+					0, HEADER_BYTES + elements * 4);
+			return mapping.order(order);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * The file already holds the contents, only the mapping grows. 
+	 * The old mapping is left to the garbage collector, since views 
+	 * from earlier {@link #getDataRef()} calls may still refer to it.
+	 * 
+	 * @see us.rothmichaels.concurrency.buffers.DirectBuffer#grow(int)
+	 */
+	@Override
+	void grow(int elements) {
+		bytes = allocate(elements);
+		buffer = view(bytes);
+		capacity = elements;
+	}
+
+	/**
+	 * Set the size of the buffer, growing the file and 
+	 * the mapping if needed. The new size is recorded 
+	 * in the header.
+	 * 
+	 * @see us.rothmichaels.concurrency.buffers.DirectBuffer#setSize(int)
+	 */
+	@Override
+	public void setSize(int size) {
+		if (size <= 0) {
+			throw new IllegalArgumentException("Bad size");
+		}
+		writeLock().lock();
+		try {
+			resize(size);
+			writeHeader();
+		} finally {
+			writeLock().unlock();
+		}
+	}
+	
+	/**
+	 * Write any changes to the storage device.
+	 */
+	public void force() {
+		readLock().lock();
+		try {
+			ensureOpen();
+			((MappedByteBuffer) bytes).force();
+		} finally {
+			readLock().unlock();
+		}
+	}
+	
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.DirectBuffer#writeTo(java.nio.channels.WritableByteChannel, java.nio.ByteOrder)
+	 */
+	@Override
+	public long writeTo(WritableByteChannel ch, ByteOrder order) throws IOException {
+		if (order != this.order) {
+			return super.writeTo(ch, order);
+		}
+		readLock().lock();
+		try {
+			ensureOpen();
+			long count = 4L * size;
+			for (long done = 0; done < count; ) {
+				long n = channel.transferTo(HEADER_BYTES + done, count - done, ch);
+				if (n <= 0) {
+					// no progress, copy the rest out of the mapping
+					ByteBuffer rest = getByteBuffer();
+					rest.position((int) done);
+					ChannelIO.writeFully(ch, rest);
+					break;
+				}
+				done += n;
+			}
+			return count;
+		} finally {
+			readLock().unlock();
+		}
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.DirectBuffer#readFrom(java.nio.channels.ReadableByteChannel, java.nio.ByteOrder)
+	 */
+	@Override
+	public void readFrom(ReadableByteChannel ch, ByteOrder order) throws IOException {
+		if (order != this.order) {
+			super.readFrom(ch, order);
+			return;
+		}
+		writeLock().lock();
+		try {
+			ensureOpen();
+			long count = 4L * size;
+			for (long done = 0; done < count; ) {
+				long n = channel.transferFrom(ch, HEADER_BYTES + done, count - done);
+				if (n <= 0) {
+					throw new EOFException();
+				}
+				done += n;
+			}
+		} finally {
+			writeLock().unlock();
+		}
+	}
+	
+	/**
+	 * @return byte order of the data in the file
+	 */
+	public ByteOrder getOrder() {
+		return order;
+	}
+	
+	/**
+	 * Force changes to storage, unmap the file and close it.
+	 * 
+	 * @see us.rothmichaels.concurrency.buffers.DirectBuffer#close()
+	 */
+	@Override
+	public void close() {
+		writeLock().lock();
+		try {
+			if (bytes != null) {
+				ByteBuffer old = bytes;
+				bytes = null;
+				buffer = null;
+				try {
+					((MappedByteBuffer) old).force();
+				} finally {
+					release(old);
+					channel.close();
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			writeLock().unlock();
+		}
+	}
+	
+	private void writeHeader() {
+		ByteBuffer header = bytes.duplicate().order(ByteOrder.BIG_ENDIAN);
+		header.putInt(MAGIC);
+		header.putShort(VERSION);
+		header.put(TYPE_FLOAT);
+		header.put((byte) (order == ByteOrder.BIG_ENDIAN ? 0 : 1));
+		header.putInt(1);
+		header.putInt(SIZE_OFFSET, size);
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * OrderedLocks.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Acquires the locks of several buffers in a global order, so 
+ * operations over more than one buffer can't deadlock against 
+ * each other.
+ * 
+ * Buffers are ordered by identity hash code; the rare ties are 
+ * broken by acquiring under a shared tie lock. A buffer that 
+ * appears more than once is only locked once, with the write 
+ * lock if any occurrence needs it.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+final class OrderedLocks {
+	
+	private static final Lock TIE_LOCK = new ReentrantLock();
+	
+	private OrderedLocks() {
+	}
+
+	/**
+	 * Write lock {@code target} and read lock {@code sources}.
+	 * 
+	 * @param target buffer being written
+	 * @param sources buffers being read
+	 * @return locks acquired, to pass to {@link #unlock(Lock[])}
+	 */
+	static Lock[] lock(IReadWriteLockedBuffer<?> target, 
+			IReadWriteLockedBuffer<?>... sources) {
+		IReadWriteLockedBuffer<?>[] buffers = new IReadWriteLockedBuffer<?>[sources.length + 1];
+		buffers[0] = target;
+		int n = 1;
+		outer:
+		for (IReadWriteLockedBuffer<?> source : sources) {
+			for (int j = 0; j < n; ++j) {
+				if (buffers[j] == source) {
+					continue outer;
+				}
+			}
+			buffers[n++] = source;
+		}
+		
+		// insertion sort, n is tiny
+		boolean tie = false;
+		for (int i = 1; i < n; ++i) {
+			IReadWriteLockedBuffer<?> b = buffers[i];
+			int h = System.identityHashCode(b);
+			int j = i - 1;
+			for (; j >= 0 && System.identityHashCode(buffers[j]) >= h; --j) {
+				tie |= System.identityHashCode(buffers[j]) == h;
+				buffers[j + 1] = buffers[j];
+			}
+			buffers[j + 1] = b;
+		}
+		
+		Lock[] locks = new Lock[n];
+		for (int i = 0; i < n; ++i) {
+			locks[i] = (buffers[i] == target) 
+					? buffers[i].writeLock() : buffers[i].readLock();
+		}
+		if (tie) {
+			TIE_LOCK.lock();
+		}
+		try {
+			for (Lock lock : locks) {
+				lock.lock();
+			}
+		} finally {
+			if (tie) {
+				TIE_LOCK.unlock();
+			}
+		}
+		return locks;
+	}
+	
+	/**
+	 * Release locks from {@link #lock(IReadWriteLockedBuffer, IReadWriteLockedBuffer...)}.
+	 * 
+	 * @param locks acquired locks
+	 */
+	static void unlock(Lock[] locks) {
+		for (int i = locks.length - 1; i >= 0; --i) {
+			locks[i].unlock();
+		}
+	}
+}
@@ -37,14 +37,37 @@
  */
 package us.rothmichaels.concurrency.buffers;
 
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongConsumer;
+
+import us.rothmichaels.concurrency.locks.AsyncLocks;
+import us.rothmichaels.concurrency.locks.IAsyncReadWriteLock;
+import us.rothmichaels.concurrency.locks.LockHandle;
+import us.rothmichaels.concurrency.locks.LockPolicy;
 
 /**
  * Abstract superclass for implementers of IReadWriteLockedBuffer.
  * 
  * Provides locks and data buffer access but performs no locking or unlocking.
+ * 
+ * Every release of the outermost write lock bumps a version counter. 
+ * Consumers can block until the version changes with 
+ * {@link #awaitVersion(long, long, TimeUnit)} or register a listener 
+ * with {@link #addVersionListener(LongConsumer, Executor)} instead of 
+ * polling. A burst of writes wakes each waiter once, and a listener 
+ * is not scheduled again until its previous notification has started.
  *
  * @author Roth Michaels 
  * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
@@ -61,6 +84,16 @@ abstract class ReadWriteLockedBuffer<T> implements IReadWriteLockedBuffer<T> {
 	/** Current size of the buffer */
 	int size;
 	
+	/** Number of completed writes */
+	private final AtomicLong version = new AtomicLong();
+	private final Lock versionedWriteLock;
+	/** Null unless the lock is asynchronous */
+	private final IAsyncReadWriteLock asyncLock;
+	private final ConcurrentLinkedQueue<Waiter> waiters = 
+			new ConcurrentLinkedQueue<Waiter>();
+	private final CopyOnWriteArrayList<Listener> listeners = 
+			new CopyOnWriteArrayList<Listener>();
+	
 	/**
 	 * Create a read/write lock for a data buffer.
 	 * 
@@ -72,10 +105,48 @@ abstract class ReadWriteLockedBuffer<T> implements IReadWriteLockedBuffer<T> {
 	 *  override this behavior.
 	 */
 	public ReadWriteLockedBuffer(T buffer, int size) {
+		this(buffer, size, LockPolicy.NON_FAIR);
+	}
+
+	/**
+	 * Create a data buffer guarded by a new lock following the given 
+	 * policy.
+	 * 
+	 * @param buffer
+	 *  Data object to manage with read/write lock.
+	 * @param size 
+	 * 	Initial size of the buffer.
+	 * @param policy
+	 *  Ordering policy of the lock.
+	 */
+	public ReadWriteLockedBuffer(T buffer, int size, LockPolicy policy) {
+		this(buffer, size, policy.newLock());
+	}
+
+	/**
+	 * Create a data buffer managed by the given read/write lock.
+	 * 
+	 * Implementations in this package never acquire the lock 
+	 * reentrantly, so non-reentrant locks such as 
+	 * {@link java.util.concurrent.locks.StampedLock#asReadWriteLock()} 
+	 * may be used.
+	 * 
+	 * @param buffer
+	 *  Data object to manage with read/write lock.
+	 * @param size 
+	 * 	Initial size of the buffer.
+	 * @param lock
+	 *  The lock guarding the buffer.
+	 */
+	public ReadWriteLockedBuffer(T buffer, int size, ReadWriteLock lock) {
 		this.buffer = buffer;
 		this.initSize = size;
 		this.size = size;
-		this.lock = new ReentrantReadWriteLock(); // TODO true for fair ordering?
+		this.lock = lock;
+		this.versionedWriteLock = new VersionedWriteLock(lock.writeLock());
+		this.asyncLock = (lock instanceof IAsyncReadWriteLock 
+				&& ((IAsyncReadWriteLock) lock).supportsAsync()) 
+				? new AsyncView((IAsyncReadWriteLock) lock) : null;
 	}
 
 
@@ -93,7 +164,412 @@ abstract class ReadWriteLockedBuffer<T> implements IReadWriteLockedBuffer<T> {
 	 */
 	@Override
 	public Lock writeLock() {
-		return lock.writeLock();
+		return versionedWriteLock;
+	}
+
+	/**
+	 * The buffer's lock for asynchronous acquisition, available if the 
+	 * buffer is guarded by an {@link IAsyncReadWriteLock} such as 
+	 * {@link us.rothmichaels.concurrency.locks.AsyncReadWriteLock}. 
+	 * Releasing an asynchronous write hold bumps the version. The view 
+	 * may be added to a 
+	 * {@link us.rothmichaels.concurrency.collections.ReadWriteLockCollection} 
+	 * to lock several buffers asynchronously.
+	 * 
+	 * @return asynchronous view of the buffer lock, 
+	 *  or null if the buffer's lock is not asynchronous
+	 */
+	public IAsyncReadWriteLock getAsyncLock() {
+		return asyncLock;
+	}
+	
+	/**
+	 * @return number of times the write lock has been released, 
+	 *  counting only outermost releases
+	 */
+	public long getVersion() {
+		return version.get();
+	}
+	
+	/**
+	 * Wait for a write newer than {@code seen}.
+	 * 
+	 * @param seen last version the caller has seen
+	 * @param timeout maximum time to wait
+	 * @param unit unit of {@code timeout}
+	 * @return current version, no greater than {@code seen} 
+	 *  if the wait timed out
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public long awaitVersion(long seen, long timeout, TimeUnit unit) 
+			throws InterruptedException {
+		long v = version.get();
+		if (v > seen) {
+			return v;
+		}
+		final long deadline = System.nanoTime() + unit.toNanos(timeout);
+		Waiter w = new Waiter(Thread.currentThread());
+		try {
+			for (;;) {
+				if (!w.queued) {
+					w.queued = true;
+					waiters.add(w);
+				}
+				v = version.get();
+				if (v > seen) {
+					return v;
+				}
+				long nanos = deadline - System.nanoTime();
+				if (nanos <= 0) {
+					return v;
+				}
+				LockSupport.parkNanos(this, nanos);
+				if (Thread.interrupted()) {
+					throw new InterruptedException();
+				}
+			}
+		} finally {
+			if (w.queued) {
+				waiters.remove(w);
+			}
+		}
+	}
+	
+	/**
+	 * Call {@code listener} with the current version, on 
+	 * {@code executor}, after writes. Notifications are coalesced: 
+	 * writes made before a pending notification runs don't 
+	 * schedule another one. A notification the executor rejects 
+	 * is dropped without failing the write.
+	 * 
+	 * @param listener called with the latest version
+	 * @param executor runs the listener
+	 */
+	public void addVersionListener(LongConsumer listener, Executor executor) {
+		listeners.add(new Listener(listener, executor));
+	}
+	
+	/**
+	 * @param listener listener to remove
+	 * @return true if the listener was registered
+	 */
+	public boolean removeVersionListener(LongConsumer listener) {
+		for (Listener l : listeners) {
+			if (l.callback == listener) {
+				return listeners.remove(l);
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Remove all version listeners.
+	 */
+	void clearVersionListeners() {
+		listeners.clear();
+	}
+	
+	/**
+	 * Wrap a lock guarding part of this buffer so releasing its 
+	 * write lock also bumps the version.
+	 * 
+	 * @param lock lock to wrap
+	 * @return lock with a versioned write lock
+	 */
+	ReadWriteLock versioned(final ReadWriteLock lock) {
+		final Lock writeLock = new VersionedWriteLock(lock.writeLock());
+		return new ReadWriteLock() {
+			@Override
+			public Lock readLock() {
+				return lock.readLock();
+			}
+
+			@Override
+			public Lock writeLock() {
+				return writeLock;
+			}
+		};
+	}
+	
+	/**
+	 * Bump the version and wake waiters and listeners.
+	 */
+	void versionChanged() {
+		version.incrementAndGet();
+		Waiter w;
+		while ((w = waiters.poll()) != null) {
+			w.queued = false;
+			LockSupport.unpark(w.thread);
+		}
+		for (Listener l : listeners) {
+			l.schedule();
+		}
+	}
+	
+	/**
+	 * Thread blocked in {@link ReadWriteLockedBuffer#awaitVersion(long, long, TimeUnit)}.
+	 */
+	private static final class Waiter {
+		final Thread thread;
+		volatile boolean queued;
+		
+		Waiter(Thread thread) {
+			this.thread = thread;
+		}
+	}
+	
+	/**
+	 * Registered listener with its pending notification flag.
+	 */
+	private final class Listener implements Runnable {
+		final LongConsumer callback;
+		final Executor executor;
+		final AtomicBoolean scheduled = new AtomicBoolean();
+		
+		Listener(LongConsumer callback, Executor executor) {
+			this.callback = callback;
+			this.executor = executor;
+		}
+		
+		void schedule() {
+			if (scheduled.compareAndSet(false, true)) {
+				try {
+					executor.execute(this);
+				} catch (RejectedExecutionException e) {
+					// dropped, the next write schedules again
+					scheduled.set(false);
+				}
+			}
+		}
+
+		@Override
+		public void run() {
+			scheduled.set(false);
+			callback.accept(version.get());
+		}
+	}
+	
+	/**
+	 * Asynchronous view of the buffer lock.
+	 */
+	private final class AsyncView implements IAsyncReadWriteLock {
+		
+		private final IAsyncReadWriteLock lock;
+		
+		AsyncView(IAsyncReadWriteLock lock) {
+			this.lock = lock;
+		}
+
+		/**
+		 * @see java.util.concurrent.locks.ReadWriteLock#readLock()
+		 */
+		@Override
+		public Lock readLock() {
+			return ReadWriteLockedBuffer.this.readLock();
+		}
+
+		/**
+		 * @see java.util.concurrent.locks.ReadWriteLock#writeLock()
+		 */
+		@Override
+		public Lock writeLock() {
+			return ReadWriteLockedBuffer.this.writeLock();
+		}
+
+		/**
+		 * @see us.rothmichaels.concurrency.locks.IAsyncReadWriteLock#readLockAsync()
+		 */
+		@Override
+		public CompletableFuture<LockHandle> readLockAsync() {
+			return lock.readLockAsync();
+		}
+
+		/**
+		 * @see us.rothmichaels.concurrency.locks.IAsyncReadWriteLock#writeLockAsync()
+		 */
+		@Override
+		public CompletableFuture<LockHandle> writeLockAsync() {
+			return AsyncLocks.onRelease(lock.writeLockAsync(), 
+					ReadWriteLockedBuffer.this::versionChanged);
+		}
+	}
+	
+	/**
+	 * Write lock that bumps the version on its outermost release.
+	 * The hold count is guarded by the wrapped lock.
+	 */
+	private final class VersionedWriteLock implements Lock {
+		
+		private final Lock lock;
+		private int holds;
+		/** Thread holding the lock, null when free */
+		private volatile Thread owner;
+		
+		VersionedWriteLock(Lock lock) {
+			this.lock = lock;
+		}
+		
+		private void acquired() {
+			if (holds++ == 0) {
+				owner = Thread.currentThread();
+			}
+		}
+
+		@Override
+		public void lock() {
+			lock.lock();
+			acquired();
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			lock.lockInterruptibly();
+			acquired();
+		}
+
+		@Override
+		public boolean tryLock() {
+			if (lock.tryLock()) {
+				acquired();
+				return true;
+			} else {
+				return false;
+			}
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit)
+				throws InterruptedException {
+			if (lock.tryLock(time, unit)) {
+				acquired();
+				return true;
+			} else {
+				return false;
+			}
+		}
+
+		/**
+		 * Only the thread holding the lock may release it, so the 
+		 * hold count is never touched by another thread.
+		 * 
+		 * @see java.util.concurrent.locks.Lock#unlock()
+		 */
+		@Override
+		public void unlock() {
+			if (owner != Thread.currentThread()) {
+				throw new IllegalMonitorStateException();
+			}
+			boolean outermost = (--holds == 0);
+			if (outermost) {
+				owner = null;
+			}
+			lock.unlock();
+			if (outermost) {
+				versionChanged();
+			}
+		}
+
+		/**
+		 * Waiting on the condition releases the lock, so the hold 
+		 * count and owner are cleared for the wait and restored once 
+		 * the lock is reacquired.
+		 * 
+		 * @see java.util.concurrent.locks.Lock#newCondition()
+		 */
+		@Override
+		public Condition newCondition() {
+			return new VersionedCondition(lock.newCondition());
+		}
+		
+		/**
+		 * Condition of the wrapped lock keeping the hold count in step.
+		 */
+		private final class VersionedCondition implements Condition {
+			
+			private final Condition condition;
+			
+			VersionedCondition(Condition condition) {
+				this.condition = condition;
+			}
+			
+			/**
+			 * @return holds to restore after the wait
+			 */
+			private int release() {
+				if (owner != Thread.currentThread()) {
+					throw new IllegalMonitorStateException();
+				}
+				int saved = holds;
+				holds = 0;
+				owner = null;
+				return saved;
+			}
+			
+			private void reacquired(int saved) {
+				holds = saved;
+				owner = Thread.currentThread();
+			}
+
+			@Override
+			public void await() throws InterruptedException {
+				int saved = release();
+				try {
+					condition.await();
+				} finally {
+					reacquired(saved);
+				}
+			}
+
+			@Override
+			public void awaitUninterruptibly() {
+				int saved = release();
+				try {
+					condition.awaitUninterruptibly();
+				} finally {
+					reacquired(saved);
+				}
+			}
+
+			@Override
+			public long awaitNanos(long nanosTimeout) throws InterruptedException {
+				int saved = release();
+				try {
+					return condition.awaitNanos(nanosTimeout);
+				} finally {
+					reacquired(saved);
+				}
+			}
+
+			@Override
+			public boolean await(long time, TimeUnit unit) throws InterruptedException {
+				int saved = release();
+				try {
+					return condition.await(time, unit);
+				} finally {
+					reacquired(saved);
+				}
+			}
+
+			@Override
+			public boolean awaitUntil(Date deadline) throws InterruptedException {
+				int saved = release();
+				try {
+					return condition.awaitUntil(deadline);
+				} finally {
+					reacquired(saved);
+				}
+			}
+
+			@Override
+			public void signal() {
+				condition.signal();
+			}
+
+			@Override
+			public void signalAll() {
+				condition.signalAll();
+			}
+		}
 	}
 
 
@@ -143,7 +619,7 @@ abstract class ReadWriteLockedBuffer<T> implements IReadWriteLockedBuffer<T> {
 	 */
 	@Override
 	public void setSize(int size) {
-		if (size < this.initSize && size > 0){
+		if (size <= this.initSize && size > 0){
 			this.size = size;
 		} else {
 			throw new IllegalArgumentException("Bad size");
@@ -0,0 +1,432 @@
+/*
+ * SegmentedFloatBuffer.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.BinaryOperator;
+
+import us.rothmichaels.concurrency.locks.LockPolicy;
+
+/**
+ * Long indexed float buffer made of fixed size chunks, for data 
+ * larger than a single array.
+ * 
+ * Chunks are allocated on first write, a chunk never written reads 
+ * as zeros. Each chunk has its own lock, so writers to different 
+ * chunks run in parallel. A master lock is read locked around every 
+ * chunk access and write locked to resize or clear the buffer.
+ * 
+ * Bulk access visits the chunks in order with a 
+ * {@link FloatRangeOperator} or {@link FloatRangeFunction} whose row 
+ * is the chunk index, holding one chunk lock at a time. Chunks 
+ * passed to readers must not be modified or kept past the call; 
+ * readers of chunks never written get a fresh zeroed array.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class SegmentedFloatBuffer {
+	
+	/** Default chunk size, 1M floats (4MB) */
+	public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+	
+	private final int chunkShift;
+	private final int chunkMask;
+	private final LockPolicy policy;
+	private final ReadWriteLock masterLock;
+	
+	/** Chunks, null until written, guarded by their chunk locks */
+	private float[][] chunks;
+	private ReadWriteLock[] chunkLocks;
+	private volatile long size;
+	
+	/**
+	 * @param size initial buffer size
+	 */
+	public SegmentedFloatBuffer(long size) {
+		this(size, DEFAULT_CHUNK_SIZE);
+	}
+	
+	/**
+	 * @param size initial buffer size
+	 * @param chunkSize elements per chunk, a power of two
+	 */
+	public SegmentedFloatBuffer(long size, int chunkSize) {
+		this(size, chunkSize, LockPolicy.NON_FAIR);
+	}
+	
+	/**
+	 * @param size initial buffer size
+	 * @param chunkSize elements per chunk, a power of two
+	 * @param policy ordering policy of the master and chunk locks
+	 * @throws IllegalArgumentException 
+	 *  if {@code chunkSize} is not a positive power of two or 
+	 *  {@code size} is negative or needs too many chunks
+	 */
+	public SegmentedFloatBuffer(long size, int chunkSize, LockPolicy policy) {
+		if (chunkSize <= 0 || Integer.bitCount(chunkSize) != 1) {
+			throw new IllegalArgumentException("chunkSize must be a power of two: " + chunkSize);
+		}
+		this.chunkShift = Integer.numberOfTrailingZeros(chunkSize);
+		this.chunkMask = chunkSize - 1;
+		this.policy = policy;
+		this.masterLock = policy.newLock();
+		this.chunks = new float[0][];
+		this.chunkLocks = new ReadWriteLock[0];
+		resize(size);
+	}
+	
+	/**
+	 * @return current size
+	 */
+	public long getSize() {
+		return size;
+	}
+	
+	/**
+	 * Set the size of the buffer. Chunks wholly past the new size 
+	 * are released, elements exposed by growing read as zero.
+	 * 
+	 * @param size new size
+	 * @throws IllegalArgumentException 
+	 *  if {@code size} is negative or needs too many chunks
+	 */
+	public void setSize(long size) {
+		masterLock.writeLock().lock();
+		try {
+			resize(size);
+		} finally {
+			masterLock.writeLock().unlock();
+		}
+	}
+	
+	/**
+	 * Must hold the master write lock.
+	 */
+	private void resize(long newSize) {
+		long count = chunkCount(newSize);
+		if (newSize < 0 || count > ArrayBuffer.MAX_CAPACITY) {
+			throw new IllegalArgumentException("size: " + newSize);
+		}
+		int n = (int) count;
+		if (n > chunkLocks.length) {
+			int grown = Math.min(ArrayBuffer.MAX_CAPACITY, 
+					Math.max(n, chunkLocks.length + (chunkLocks.length >> 1)));
+			chunks = Arrays.copyOf(chunks, grown);
+			int old = chunkLocks.length;
+			chunkLocks = Arrays.copyOf(chunkLocks, grown);
+			for (int i = old; i < grown; ++i) {
+				chunkLocks[i] = policy.newLock();
+			}
+		}
+		for (int i = n; i < chunks.length; ++i) {
+			chunks[i] = null;
+		}
+		int tail = (int) (newSize & chunkMask);
+		if (newSize < size && tail != 0 && chunks[n - 1] != null) {
+			Arrays.fill(chunks[n - 1], tail, chunkMask + 1, 0f);
+		}
+		size = newSize;
+	}
+	
+	private long chunkCount(long size) {
+		return (size + chunkMask) >>> chunkShift;
+	}
+	
+	/**
+	 * @return elements per chunk
+	 */
+	public int getChunkSize() {
+		return chunkMask + 1;
+	}
+	
+	/**
+	 * @return number of chunks covering the current size
+	 */
+	public int getChunkCount() {
+		return (int) chunkCount(size);
+	}
+	
+	/**
+	 * @return number of chunks that have been allocated
+	 */
+	public int getAllocatedChunkCount() {
+		masterLock.writeLock().lock();
+		try {
+			int allocated = 0;
+			for (float[] chunk : chunks) {
+				if (chunk != null) {
+					++allocated;
+				}
+			}
+			return allocated;
+		} finally {
+			masterLock.writeLock().unlock();
+		}
+	}
+	
+	/**
+	 * Zero the buffer, keeping allocated chunks.
+	 */
+	public void clear() {
+		masterLock.writeLock().lock();
+		try {
+			for (float[] chunk : chunks) {
+				if (chunk != null) {
+					Arrays.fill(chunk, 0f);
+				}
+			}
+		} finally {
+			masterLock.writeLock().unlock();
+		}
+	}
+	
+	/**
+	 * @param index index into the buffer
+	 * @return the value at {@code index}
+	 * @throws IndexOutOfBoundsException 
+	 *  if {@code index} is not within the current size
+	 */
+	public float get(long index) {
+		masterLock.readLock().lock();
+		try {
+			checkRange(index, 1);
+			int c = (int) (index >>> chunkShift);
+			Lock lock = chunkLocks[c].readLock();
+			lock.lock();
+			try {
+				float[] chunk = chunks[c];
+				return (chunk == null) ? 0f : chunk[(int) index & chunkMask];
+			} finally {
+				lock.unlock();
+			}
+		} finally {
+			masterLock.readLock().unlock();
+		}
+	}
+	
+	/**
+	 * @param index index into the buffer
+	 * @param value new value
+	 * @throws IndexOutOfBoundsException 
+	 *  if {@code index} is not within the current size
+	 */
+	public void set(long index, float value) {
+		masterLock.readLock().lock();
+		try {
+			checkRange(index, 1);
+			int c = (int) (index >>> chunkShift);
+			Lock lock = chunkLocks[c].writeLock();
+			lock.lock();
+			try {
+				writable(c)[(int) index & chunkMask] = value;
+			} finally {
+				lock.unlock();
+			}
+		} finally {
+			masterLock.readLock().unlock();
+		}
+	}
+	
+	/**
+	 * Set every element, allocating every chunk.
+	 * 
+	 * @param value new value
+	 */
+	public void fill(final float value) {
+		update(0, size, (chunk, data, from, to) -> Arrays.fill(data, from, to, value));
+	}
+	
+	/**
+	 * Copy out of the buffer.
+	 * 
+	 * @param dst destination array
+	 * @param srcOff first buffer index to copy
+	 * @param dstOff first destination index
+	 * @param len number of elements to copy
+	 * @throws IndexOutOfBoundsException 
+	 *  if the range is not within the buffer or {@code dst}
+	 */
+	public void readInto(final float[] dst, final long srcOff, final int dstOff, int len) {
+		FloatBuffer.checkRange(dstOff, len, dst.length);
+		forEach(srcOff, srcOff + len, (chunk, data, from, to) -> {
+			long pos = ((long) chunk << chunkShift) + from;
+			System.arraycopy(data, from, dst, dstOff + (int) (pos - srcOff), to - from);
+		});
+	}
+	
+	/**
+	 * Copy into the buffer.
+	 * 
+	 * @param src source array
+	 * @param srcOff first source index
+	 * @param dstOff first buffer index to write
+	 * @param len number of elements to copy
+	 * @throws IndexOutOfBoundsException 
+	 *  if the range is not within the buffer or {@code src}
+	 */
+	public void writeFrom(final float[] src, final int srcOff, final long dstOff, int len) {
+		FloatBuffer.checkRange(srcOff, len, src.length);
+		update(dstOff, dstOff + len, (chunk, data, from, to) -> {
+			long pos = ((long) chunk << chunkShift) + from;
+			System.arraycopy(src, srcOff + (int) (pos - dstOff), data, from, to - from);
+		});
+	}
+	
+	/**
+	 * Visit {@code [from, to)} chunk by chunk in order, read locking 
+	 * each chunk. The operator's row is the chunk index and its range 
+	 * is within that chunk.
+	 * 
+	 * @param from first index
+	 * @param to index past the last
+	 * @param reader operator of every chunk, must not modify the data
+	 * @throws IndexOutOfBoundsException 
+	 *  if the range is not within the buffer
+	 */
+	public void forEach(long from, long to, FloatRangeOperator reader) {
+		visit(from, to, false, null, operation(reader), null);
+	}
+	
+	/**
+	 * Update {@code [from, to)} chunk by chunk in order, write locking 
+	 * and allocating each chunk. The operator's row is the chunk index 
+	 * and its range is within that chunk.
+	 * 
+	 * @param from first index
+	 * @param to index past the last
+	 * @param writer operator of every chunk
+	 * @throws IndexOutOfBoundsException 
+	 *  if the range is not within the buffer
+	 */
+	public void update(long from, long to, FloatRangeOperator writer) {
+		visit(from, to, true, null, operation(writer), null);
+	}
+	
+	/**
+	 * Reduce {@code [from, to)} chunk by chunk in order, read locking 
+	 * each chunk.
+	 * 
+	 * @param from first index
+	 * @param to index past the last
+	 * @param identity result for an empty range
+	 * @param function function of every chunk, must not modify the data
+	 * @param combiner combines chunk results in order
+	 * @param <R> result type
+	 * @return combined result
+	 * @throws IndexOutOfBoundsException 
+	 *  if the range is not within the buffer
+	 */
+	public <R> R reduce(long from, long to, R identity, 
+			FloatRangeFunction<R> function, BinaryOperator<R> combiner) {
+		return visit(from, to, false, identity, function, combiner);
+	}
+	
+	private static FloatRangeFunction<Void> operation(FloatRangeOperator op) {
+		return (chunk, data, from, to) -> {
+			op.apply(chunk, data, from, to);
+			return null;
+		};
+	}
+	
+	private <R> R visit(long from, long to, boolean write, R identity, 
+			FloatRangeFunction<R> function, BinaryOperator<R> combiner) {
+		R result = identity;
+		masterLock.readLock().lock();
+		try {
+			if (from > to) {
+				throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ")");
+			}
+			checkRange(from, to - from);
+			long pos = from;
+			while (pos < to) {
+				int c = (int) (pos >>> chunkShift);
+				long chunkStart = (long) c << chunkShift;
+				int end = (int) Math.min(chunkMask + 1, to - chunkStart);
+				Lock lock = write ? chunkLocks[c].writeLock() : chunkLocks[c].readLock();
+				lock.lock();
+				try {
+					R r = function.apply(c, write ? writable(c) : readable(c, end), 
+							(int) (pos - chunkStart), end);
+					result = (combiner == null) ? r : combiner.apply(result, r);
+				} finally {
+					lock.unlock();
+				}
+				pos = chunkStart + chunkMask + 1;
+			}
+			return result;
+		} finally {
+			masterLock.readLock().unlock();
+		}
+	}
+	
+	/**
+	 * Must hold the master read lock and chunk write lock.
+	 */
+	private float[] writable(int c) {
+		float[] chunk = chunks[c];
+		if (chunk == null) {
+			chunk = new float[chunkMask + 1];
+			chunks[c] = chunk;
+		}
+		return chunk;
+	}
+	
+	/**
+	 * Chunks never written read as a fresh zeroed array of 
+	 * {@code length}, so a reader modifying it affects no one else. 
+	 * Must hold the master read lock and chunk read lock.
+	 */
+	private float[] readable(int c, int length) {
+		float[] chunk = chunks[c];
+		return (chunk == null) ? new float[length] : chunk;
+	}
+	
+	/**
+	 * Must hold the master lock.
+	 */
+	private void checkRange(long off, long len) {
+		if (off < 0 || len < 0 || off > size - len) {
+			throw new IndexOutOfBoundsException(
+					"Range [" + off + ", " + off + " + " + len + ") out of bounds for size " + size);
+		}
+	}
+}
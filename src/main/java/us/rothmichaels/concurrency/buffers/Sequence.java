@@ -0,0 +1,153 @@
+/*
+ * Sequence.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Padding before the value of a {@link Sequence}.
+ */
+class SequenceLhsPadding {
+	protected long p1, p2, p3, p4, p5, p6, p7;
+}
+
+/**
+ * The value of a {@link Sequence}.
+ */
+class SequenceValue extends SequenceLhsPadding {
+	protected volatile long value;
+}
+
+/**
+ * Padding after the value of a {@link Sequence}.
+ */
+class SequenceRhsPadding extends SequenceValue {
+	protected long p9, p10, p11, p12, p13, p14, p15;
+}
+
+/**
+ * A {@code long} counter padded to sit alone on its cache line, 
+ * so threads updating different sequences do not slow each other 
+ * down through false sharing.
+ * 
+ * Used as the producer and consumer positions of the ring buffers 
+ * in this package.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class Sequence extends SequenceRhsPadding {
+
+	private static final AtomicLongFieldUpdater<SequenceValue> UPDATER =
+			AtomicLongFieldUpdater.newUpdater(SequenceValue.class, "value");
+	
+	/**
+	 * Create a sequence starting at -1.
+	 */
+	public Sequence() {
+		this(-1L);
+	}
+	
+	/**
+	 * @param initial initial value
+	 */
+	public Sequence(long initial) {
+		UPDATER.lazySet(this, initial);
+	}
+	
+	/**
+	 * Volatile (acquire) read.
+	 * 
+	 * @return current value
+	 */
+	public long get() {
+		return value;
+	}
+	
+	/**
+	 * Volatile write.
+	 * 
+	 * @param value new value
+	 */
+	public void set(long value) {
+		this.value = value;
+	}
+	
+	/**
+	 * Ordered (release) write. Cheaper than {@link #set(long)}; 
+	 * other threads see the write after every write that precedes it.
+	 * 
+	 * @param value new value
+	 */
+	public void setOrdered(long value) {
+		UPDATER.lazySet(this, value);
+	}
+	
+	/**
+	 * @param expected expected current value
+	 * @param value new value
+	 * @return true if the value was updated
+	 */
+	public boolean compareAndSet(long expected, long value) {
+		return UPDATER.compareAndSet(this, expected, value);
+	}
+	
+	/**
+	 * @param increment amount to add
+	 * @return the updated value
+	 */
+	public long addAndGet(long increment) {
+		return UPDATER.addAndGet(this, increment);
+	}
+	
+	/**
+	 * @return the updated value
+	 */
+	public long incrementAndGet() {
+		return addAndGet(1L);
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return Long.toString(get());
+	}
+}
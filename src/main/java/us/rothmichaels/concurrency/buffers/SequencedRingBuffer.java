@@ -0,0 +1,360 @@
+/*
+ * SequencedRingBuffer.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Multi-producer/multi-consumer ring of preallocated entries, 
+ * coordinated by sequence numbers rather than locks.
+ * 
+ * Producers claim one or more sequences with {@link #next(int)}, 
+ * fill the entries returned by {@link #get(long)} and then 
+ * {@link #publish(long, long) publish} them. Claiming is a single 
+ * compare-and-set on a shared cursor; publication marks each slot 
+ * individually so producers never wait for each other.
+ * 
+ * Each consumer tracks its own progress in a {@link Sequence} 
+ * registered with {@link #addGatingSequences(Sequence...)}; producers 
+ * will not overwrite an entry until every gating sequence has passed 
+ * it. A consumer loop looks like:
+ * 
+ * <pre>
+ * long next = consumed.get() + 1;
+ * long available = ring.waitFor(next);
+ * for (; next &lt;= available; ++next) {
+ *     process(ring.get(next));
+ * }
+ * consumed.setOrdered(available);
+ * </pre>
+ * 
+ * Workers sharing a stream of entries can instead claim sequences 
+ * from a common {@link Sequence} with {@link Sequence#incrementAndGet()}, 
+ * each still gating the ring with its own sequence.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ * @param <E> entry type
+ */
+public class SequencedRingBuffer<E> {
+
+	private static final Sequence[] NO_SEQUENCES = new Sequence[0];
+	
+	private final Object[] entries;
+	private final int bufferSize;
+	private final int mask;
+	private final int indexShift;
+	/** Round number in which each slot was last published */
+	private final AtomicIntegerArray available;
+	private final WaitStrategy waitStrategy;
+	
+	/** Highest claimed sequence */
+	private final Sequence cursor = new Sequence();
+	/** Last known minimum of the gating sequences */
+	private final Sequence gatingCache = new Sequence();
+	private final AtomicReference<Sequence[]> gatingSequences = 
+			new AtomicReference<Sequence[]>(NO_SEQUENCES);
+	
+	/**
+	 * @param factory creates the preallocated entries
+	 * @param bufferSize number of entries, a power of two
+	 * @param waitStrategy how consumers wait for entries
+	 */
+	public SequencedRingBuffer(Supplier<E> factory, int bufferSize, 
+			WaitStrategy waitStrategy) {
+		if (bufferSize <= 0 || Integer.bitCount(bufferSize) != 1) {
+			throw new IllegalArgumentException("Buffer size must be a power of two.");
+		}
+		this.bufferSize = bufferSize;
+		this.mask = bufferSize - 1;
+		this.indexShift = Integer.numberOfTrailingZeros(bufferSize);
+		this.entries = new Object[bufferSize];
+		for (int i = 0; i < bufferSize; ++i) {
+			entries[i] = factory.get();
+		}
+		this.available = new AtomicIntegerArray(bufferSize);
+		for (int i = 0; i < bufferSize; ++i) {
+			available.lazySet(i, -1);
+		}
+		this.waitStrategy = waitStrategy;
+	}
+	
+	/**
+	 * @return number of entries in the ring
+	 */
+	public int getBufferSize() {
+		return bufferSize;
+	}
+	
+	/**
+	 * @return highest sequence claimed by a producer, 
+	 *  which may not be published yet
+	 */
+	public long getCursor() {
+		return cursor.get();
+	}
+	
+	/**
+	 * Get the entry for a sequence. Producers may only 
+	 * write entries they have claimed and not yet published; 
+	 * consumers may only read entries that have been published.
+	 * 
+	 * @param sequence sequence number
+	 * @return the entry
+	 */
+	@SuppressWarnings("unchecked")
+	public E get(long sequence) {
+		return (E) entries[(int) sequence & mask];
+	}
+	
+	/**
+	 * Register consumer sequences that producers must not overtake. 
+	 * The sequences are set to the current cursor, so consumers 
+	 * start with the next entry to be claimed.
+	 * 
+	 * @param sequences consumer sequences
+	 */
+	public void addGatingSequences(Sequence... sequences) {
+		Sequence[] current, updated;
+		do {
+			current = gatingSequences.get();
+			updated = Arrays.copyOf(current, current.length + sequences.length);
+			long cursorValue = cursor.get();
+			for (int i = 0; i < sequences.length; ++i) {
+				sequences[i].set(cursorValue);
+				updated[current.length + i] = sequences[i];
+			}
+		} while (!gatingSequences.compareAndSet(current, updated));
+		// the cursor may have moved before the sequences became visible
+		long cursorValue = cursor.get();
+		for (Sequence sequence : sequences) {
+			sequence.set(cursorValue);
+		}
+	}
+	
+	/**
+	 * Stop gating producers on a consumer sequence.
+	 * 
+	 * @param sequence consumer sequence
+	 * @return true if the sequence was registered
+	 */
+	public boolean removeGatingSequence(Sequence sequence) {
+		Sequence[] current, updated;
+		do {
+			current = gatingSequences.get();
+			int index = -1;
+			for (int i = 0; i < current.length; ++i) {
+				if (current[i] == sequence) {
+					index = i;
+					break;
+				}
+			}
+			if (index < 0) {
+				return false;
+			}
+			updated = new Sequence[current.length - 1];
+			System.arraycopy(current, 0, updated, 0, index);
+			System.arraycopy(current, index + 1, updated, index, updated.length - index);
+		} while (!gatingSequences.compareAndSet(current, updated));
+		return true;
+	}
+	
+	/**
+	 * Claim the next sequence, waiting for consumers if the ring is full.
+	 * 
+	 * @return claimed sequence
+	 */
+	public long next() {
+		return next(1);
+	}
+	
+	/**
+	 * Claim a batch of sequences, waiting for consumers if 
+	 * the ring is full.
+	 * 
+	 * @param n number of sequences, at most the buffer size
+	 * @return highest claimed sequence; the batch is 
+	 *  {@code [returned - n + 1, returned]}
+	 */
+	public long next(int n) {
+		checkBatch(n);
+		for (;;) {
+			final long current = cursor.get();
+			final long next = current + n;
+			if (hasCapacity(current, next)) {
+				if (cursor.compareAndSet(current, next)) {
+					return next;
+				}
+			} else {
+				LockSupport.parkNanos(1L);
+			}
+		}
+	}
+	
+	/**
+	 * Claim a batch of sequences without waiting.
+	 * 
+	 * @param n number of sequences, at most the buffer size
+	 * @return highest claimed sequence, or -1 if the 
+	 *  ring does not have room for {@code n} entries
+	 */
+	public long tryNext(int n) {
+		checkBatch(n);
+		for (;;) {
+			final long current = cursor.get();
+			final long next = current + n;
+			if (!hasCapacity(current, next)) {
+				return -1L;
+			}
+			if (cursor.compareAndSet(current, next)) {
+				return next;
+			}
+		}
+	}
+	
+	/**
+	 * @return number of entries that can be claimed without waiting
+	 */
+	public long remainingCapacity() {
+		final long current = cursor.get();
+		return bufferSize - (current - minimumGatingSequence(current));
+	}
+	
+	/**
+	 * Publish one claimed sequence.
+	 * 
+	 * @param sequence sequence to publish
+	 */
+	public void publish(long sequence) {
+		setAvailable(sequence);
+		waitStrategy.signalAllWhenBlocking();
+	}
+	
+	/**
+	 * Publish a batch of claimed sequences.
+	 * 
+	 * @param lo first sequence to publish
+	 * @param hi last sequence to publish
+	 */
+	public void publish(long lo, long hi) {
+		for (long s = lo; s <= hi; ++s) {
+			setAvailable(s);
+		}
+		waitStrategy.signalAllWhenBlocking();
+	}
+	
+	/**
+	 * @param sequence sequence number
+	 * @return true if the sequence has been published
+	 */
+	public boolean isAvailable(long sequence) {
+		return available.get((int) sequence & mask) == (int) (sequence >>> indexShift);
+	}
+	
+	/**
+	 * Find the end of the run of published sequences starting at 
+	 * {@code lo}, without waiting.
+	 * 
+	 * @param lo first sequence to check
+	 * @return highest sequence such that every sequence from {@code lo} 
+	 *  to it is published, or {@code lo - 1} if {@code lo} is not
+	 */
+	public long getHighestPublished(long lo) {
+		final long hi = cursor.get();
+		for (long s = lo; s <= hi; ++s) {
+			if (!isAvailable(s)) {
+				return s - 1;
+			}
+		}
+		return hi;
+	}
+	
+	/**
+	 * Wait, using the ring's {@link WaitStrategy}, until a sequence 
+	 * is published.
+	 * 
+	 * @param sequence sequence to wait for
+	 * @return highest sequence such that every sequence from 
+	 *  {@code sequence} to it is published
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	public long waitFor(long sequence) throws InterruptedException {
+		for (int counter = 0; ; ++counter) {
+			if (cursor.get() >= sequence) {
+				final long published = getHighestPublished(sequence);
+				if (published >= sequence) {
+					return published;
+				}
+			}
+			waitStrategy.idle(counter);
+		}
+	}
+	
+	private void checkBatch(int n) {
+		if (n < 1 || n > bufferSize) {
+			throw new IllegalArgumentException("Bad batch size: " + n);
+		}
+	}
+	
+	private boolean hasCapacity(long current, long next) {
+		final long wrapPoint = next - bufferSize;
+		final long cached = gatingCache.get();
+		if (wrapPoint > cached || cached > current) {
+			final long gating = minimumGatingSequence(current);
+			gatingCache.setOrdered(gating);
+			return wrapPoint <= gating;
+		}
+		return true;
+	}
+	
+	private long minimumGatingSequence(long minimum) {
+		for (Sequence s : gatingSequences.get()) {
+			minimum = Math.min(minimum, s.get());
+		}
+		return minimum;
+	}
+	
+	private void setAvailable(long sequence) {
+		available.lazySet((int) sequence & mask, (int) (sequence >>> indexShift));
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * SpscFloatRingBuffer.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+/**
+ * Lock-free ring buffer of floats for exactly one producer thread 
+ * and one consumer thread.
+ * 
+ * The producer publishes its position with a release write after 
+ * copying data in, and the consumer reads it with an acquire read 
+ * before copying data out (and the other way around for the 
+ * consumer's position), so no locks are needed. Each side also 
+ * caches the other side's last known position to avoid touching 
+ * the other side's cache line on every call. Reads and writes never 
+ * block or allocate; they transfer as much as currently fits.
+ * 
+ * {@link #write(float[], int, int)} must only be called by the 
+ * producer and {@link #read(float[], int, int)} only by the consumer.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class SpscFloatRingBuffer {
+
+	private final float[] data;
+	private final int capacity;
+	private final int mask;
+	
+	/** Total floats written, only written by the producer */
+	private final Sequence tail = new Sequence(0L);
+	/** Total floats read, only written by the consumer */
+	private final Sequence head = new Sequence(0L);
+	/** Producer's last view of {@link #head} */
+	private final Sequence headCache = new Sequence(0L);
+	/** Consumer's last view of {@link #tail} */
+	private final Sequence tailCache = new Sequence(0L);
+	
+	/**
+	 * @param capacity minimum capacity, rounded up to a power of two
+	 */
+	public SpscFloatRingBuffer(int capacity) {
+		if (capacity <= 0 || capacity > (1 << 30)) {
+			throw new IllegalArgumentException("Bad capacity");
+		}
+		this.capacity = (capacity == 1) ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+		this.mask = this.capacity - 1;
+		this.data = new float[this.capacity];
+	}
+	
+	/**
+	 * @return number of floats the buffer can hold
+	 */
+	public int capacity() {
+		return capacity;
+	}
+	
+	/**
+	 * @return number of floats available to read
+	 */
+	public int available() {
+		return (int) (tail.get() - head.get());
+	}
+	
+	/**
+	 * @return number of floats that can be written
+	 */
+	public int remaining() {
+		return capacity - available();
+	}
+	
+	/**
+	 * Write as many floats as fit. Producer thread only.
+	 * 
+	 * @param src source array
+	 * @param offset first index in {@code src}
+	 * @param length maximum number of floats to write
+	 * @return number of floats written
+	 */
+	public int write(float[] src, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > src.length) {
+			throw new IndexOutOfBoundsException();
+		}
+		final long t = tail.get();
+		long free = capacity - (t - headCache.get());
+		if (free < length) {
+			final long h = head.get();
+			headCache.setOrdered(h);
+			free = capacity - (t - h);
+		}
+		final int n = (int) Math.min(length, free);
+		if (n == 0) {
+			return 0;
+		}
+		final int index = (int) t & mask;
+		final int first = Math.min(n, capacity - index);
+		System.arraycopy(src, offset, data, index, first);
+		System.arraycopy(src, offset + first, data, 0, n - first);
+		tail.setOrdered(t + n);
+		return n;
+	}
+	
+	/**
+	 * Read as many floats as are available. Consumer thread only.
+	 * 
+	 * @param dst destination array
+	 * @param offset first index in {@code dst}
+	 * @param length maximum number of floats to read
+	 * @return number of floats read
+	 */
+	public int read(float[] dst, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > dst.length) {
+			throw new IndexOutOfBoundsException();
+		}
+		final long h = head.get();
+		long ready = tailCache.get() - h;
+		if (ready < length) {
+			final long t = tail.get();
+			tailCache.setOrdered(t);
+			ready = t - h;
+		}
+		final int n = (int) Math.min(length, ready);
+		if (n == 0) {
+			return 0;
+		}
+		final int index = (int) h & mask;
+		final int first = Math.min(n, capacity - index);
+		System.arraycopy(data, index, dst, offset, first);
+		System.arraycopy(data, 0, dst, offset + first, n - first);
+		head.setOrdered(h + n);
+		return n;
+	}
+}
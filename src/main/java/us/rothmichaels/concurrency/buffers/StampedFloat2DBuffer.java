@@ -0,0 +1,122 @@
+/*
+ * StampedFloat2DBuffer.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Read/Write lockable primitive 2D float buffer ({@code float[][]})
+ * guarded by a {@link StampedLock}.
+ *
+ * @see StampedFloatBuffer
+ *
+ * @author Roth Michaels
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class StampedFloat2DBuffer extends Float2DBuffer
+		implements IOptimisticReadBuffer<float[][]> {
+
+	private final StampedLock stampedLock;
+
+	/**
+	 * @param dim1 first dimension
+	 * @param dim2 second dimension (buffer size)
+	 */
+	public StampedFloat2DBuffer(int dim1, int dim2) {
+		this(dim1, dim2, new StampedLock());
+	}
+
+	private StampedFloat2DBuffer(int dim1, int dim2, StampedLock lock) {
+		super(dim1, dim2, lock.asReadWriteLock());
+		this.stampedLock = lock;
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.IOptimisticReadBuffer#tryOptimisticRead()
+	 */
+	@Override
+	public long tryOptimisticRead() {
+		return stampedLock.tryOptimisticRead();
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.IOptimisticReadBuffer#validate(long)
+	 */
+	@Override
+	public boolean validate(long stamp) {
+		return stampedLock.validate(stamp);
+	}
+
+	/**
+	 * Read a single value, optimistically if possible. Values at or 
+	 * past the lazy clear watermark read as zero.
+	 *
+	 * @param row index into the first dimension
+	 * @param index index into the second dimension
+	 * @return the value at {@code [row][index]}
+	 * @throws ArrayIndexOutOfBoundsException
+	 *  if {@code index} is not within the current size
+	 */
+	@Override
+	public float get(int row, int index) {
+		long stamp = stampedLock.tryOptimisticRead();
+		float[][] data = buffer;
+		int size = this.size;
+		int watermark = this.watermark;
+		boolean inRange = (row >= 0 && row < data.length 
+				&& index >= 0 && index < data[row].length);
+		float value = (inRange && index < watermark) ? data[row][index] : 0f;
+		if (!stampedLock.validate(stamp)) {
+			stamp = stampedLock.readLock();
+			try {
+				data = buffer;
+				size = this.size;
+				inRange = (row >= 0 && row < data.length && index >= 0);
+				value = (inRange && index < size && index < this.watermark) 
+						? data[row][index] : 0f;
+			} finally {
+				stampedLock.unlockRead(stamp);
+			}
+		}
+		if (!inRange || index >= size) {
+			throw new ArrayIndexOutOfBoundsException("[" + row + "][" + index + "]");
+		}
+		return value;
+	}
+}
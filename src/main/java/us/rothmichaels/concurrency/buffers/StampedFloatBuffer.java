@@ -0,0 +1,120 @@
+/*
+ * StampedFloatBuffer.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Read/Write lockable primitive float buffer guarded by a
+ * {@link StampedLock}.
+ *
+ * Readers may skip locking entirely with
+ * {@link #tryOptimisticRead()}/{@link #validate(long)}, which keeps
+ * read-mostly workloads from bouncing a shared reader count between
+ * cores. The {@link #readLock()} and {@link #writeLock()} views
+ * are not reentrant and do not support conditions.
+ *
+ * @author Roth Michaels
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class StampedFloatBuffer extends FloatBuffer
+		implements IOptimisticReadBuffer<float[]> {
+
+	private final StampedLock stampedLock;
+
+	/**
+	 * @param size initial buffer size
+	 */
+	public StampedFloatBuffer(int size) {
+		this(size, new StampedLock());
+	}
+
+	private StampedFloatBuffer(int size, StampedLock lock) {
+		super(size, lock.asReadWriteLock());
+		this.stampedLock = lock;
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.IOptimisticReadBuffer#tryOptimisticRead()
+	 */
+	@Override
+	public long tryOptimisticRead() {
+		return stampedLock.tryOptimisticRead();
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.IOptimisticReadBuffer#validate(long)
+	 */
+	@Override
+	public boolean validate(long stamp) {
+		return stampedLock.validate(stamp);
+	}
+
+	/**
+	 * Read a single value, optimistically if possible. Values at or 
+	 * past the lazy clear watermark read as zero.
+	 *
+	 * @param index index into the buffer
+	 * @return the value at {@code index}
+	 * @throws ArrayIndexOutOfBoundsException
+	 *  if {@code index} is not within the current size
+	 */
+	public float get(int index) {
+		long stamp = stampedLock.tryOptimisticRead();
+		float[] data = buffer;
+		int size = this.size;
+		int watermark = this.watermark;
+		float value = (index >= 0 && index < data.length && index < watermark) 
+				? data[index] : 0f;
+		if (!stampedLock.validate(stamp)) {
+			stamp = stampedLock.readLock();
+			try {
+				size = this.size;
+				value = (index >= 0 && index < size && index < this.watermark) 
+						? buffer[index] : 0f;
+			} finally {
+				stampedLock.unlockRead(stamp);
+			}
+		}
+		if (index < 0 || index >= size) {
+			throw new ArrayIndexOutOfBoundsException(index);
+		}
+		return value;
+	}
+}
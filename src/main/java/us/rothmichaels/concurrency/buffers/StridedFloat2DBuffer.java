@@ -0,0 +1,297 @@
+/*
+ * StridedFloat2DBuffer.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import us.rothmichaels.concurrency.locks.LockPolicy;
+
+/**
+ * Read/Write lockable 2D float buffer stored in a single 
+ * {@code float[]}.
+ * 
+ * Rows are packed back to back: element {@code [row][i]} is at 
+ * {@link #index(int, int) index(row, i)}{@code  = row * getStride() + i}.
+ * Column {@code i} across all rows (one interleaved frame) is found 
+ * at a constant stride. Clearing the buffer or a row, and resizing, 
+ * each touch one contiguous range of memory.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class StridedFloat2DBuffer extends ReadWriteLockedBuffer<float[]> {
+
+	private final int firstDim;
+	/** Distance between the start of two rows */
+	private int stride;
+	
+	/**
+	 * @param dim1 first dimension (number of rows)
+	 * @param dim2 second dimension (buffer size)
+	 */
+	public StridedFloat2DBuffer(int dim1, int dim2) {
+		this(dim1, dim2, new ReentrantReadWriteLock());
+	}
+	
+	/**
+	 * @param dim1 first dimension (number of rows)
+	 * @param dim2 second dimension (buffer size)
+	 * @param lock lock guarding the buffer
+	 */
+	public StridedFloat2DBuffer(int dim1, int dim2, ReadWriteLock lock) {
+		super(new float[length(dim1, dim2)], dim2, lock);
+		this.firstDim = dim1;
+		this.stride = dim2;
+	}
+
+	/**
+	 * @param dim1 first dimension
+	 * @param dim2 second dimension (buffer size)
+	 * @param policy ordering policy of the lock guarding the buffer
+	 */
+	public StridedFloat2DBuffer(int dim1, int dim2, LockPolicy policy) {
+		this(dim1, dim2, policy.newLock());
+	}
+	
+	/**
+	 * @return number of rows
+	 */
+	public int getFirstDim() {
+		return firstDim;
+	}
+	
+	/**
+	 * @return distance between the starts of two rows in the 
+	 *  array returned by {@link #getDataRef()}
+	 */
+	public int getStride() {
+		return stride;
+	}
+	
+	/**
+	 * @param row row index
+	 * @param i index into the row
+	 * @return index of {@code [row][i]} in {@link #getDataRef()}
+	 */
+	public int index(int row, int i) {
+		return row * stride + i;
+	}
+	
+	/**
+	 * Caller must hold a lock.
+	 * 
+	 * @param row row index
+	 * @param i index into the row
+	 * @return value at {@code [row][i]}
+	 */
+	public float get(int row, int i) {
+		checkIndex(row, i, 1);
+		return buffer[row * stride + i];
+	}
+	
+	/**
+	 * Caller must hold the write lock.
+	 * 
+	 * @param row row index
+	 * @param i index into the row
+	 * @param value new value
+	 */
+	public void set(int row, int i, float value) {
+		checkIndex(row, i, 1);
+		buffer[row * stride + i] = value;
+	}
+	
+	/**
+	 * Copy a row out of the buffer under the read lock.
+	 * 
+	 * @param row row index
+	 * @param dst destination, at least {@link #getSize()} 
+	 *  floats from {@code offset}
+	 * @param offset first index in {@code dst}
+	 */
+	public void readRow(int row, float[] dst, int offset) {
+		readLock().lock();
+		try {
+			checkIndex(row, 0, size);
+			System.arraycopy(buffer, row * stride, dst, offset, size);
+		} finally {
+			readLock().unlock();
+		}
+	}
+	
+	/**
+	 * Copy a row into the buffer under the write lock.
+	 * 
+	 * @param row row index
+	 * @param src source, at least {@link #getSize()} 
+	 *  floats from {@code offset}
+	 * @param offset first index in {@code src}
+	 */
+	public void writeRow(int row, float[] src, int offset) {
+		writeLock().lock();
+		try {
+			checkIndex(row, 0, size);
+			System.arraycopy(src, offset, buffer, row * stride, size);
+		} finally {
+			writeLock().unlock();
+		}
+	}
+	
+	/**
+	 * Copy one column (the {@code i}th value of every row) out of 
+	 * the buffer under the read lock.
+	 * 
+	 * @param i index into the rows
+	 * @param dst destination, at least {@link #getFirstDim()} 
+	 *  floats from {@code offset}
+	 * @param offset first index in {@code dst}
+	 */
+	public void readColumn(int i, float[] dst, int offset) {
+		readLock().lock();
+		try {
+			checkIndex(0, i, 1);
+			final float[] data = buffer;
+			final int stride = this.stride;
+			for (int row = 0, src = i; row < firstDim; ++row, src += stride) {
+				dst[offset + row] = data[src];
+			}
+		} finally {
+			readLock().unlock();
+		}
+	}
+	
+	/**
+	 * Copy one column (the {@code i}th value of every row) into 
+	 * the buffer under the write lock.
+	 * 
+	 * @param i index into the rows
+	 * @param src source, at least {@link #getFirstDim()} 
+	 *  floats from {@code offset}
+	 * @param offset first index in {@code src}
+	 */
+	public void writeColumn(int i, float[] src, int offset) {
+		writeLock().lock();
+		try {
+			checkIndex(0, i, 1);
+			final float[] data = buffer;
+			final int stride = this.stride;
+			for (int row = 0, dst = i; row < firstDim; ++row, dst += stride) {
+				data[dst] = src[offset + row];
+			}
+		} finally {
+			writeLock().unlock();
+		}
+	}
+	
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.IReadWriteLockedBuffer#clear()
+	 */
+	@Override
+	public void clear() {
+		writeLock().lock();
+		Arrays.fill(buffer, 0, firstDim * stride, 0f);
+		writeLock().unlock();
+	}
+	
+	/**
+	 * Clear one row.
+	 * 
+	 * @param row row index
+	 */
+	public void clear(int row) {
+		writeLock().lock();
+		try {
+			checkIndex(row, 0, 0);
+			final int start = row * stride;
+			Arrays.fill(buffer, start, start + size, 0f);
+		} finally {
+			writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Set the size of the second dimension and clear the buffer.
+	 * 
+	 * The contents are not kept: the rows are laid out at the new 
+	 * stride and zeroed, the backing array is only replaced if it 
+	 * is too small.
+	 * 
+	 * @see us.rothmichaels.concurrency.buffers.ReadWriteLockedBuffer#setSize(int)
+	 */
+	@Override
+	public void setSize(int size) {
+		final int length = length(firstDim, size);
+		writeLock().lock();
+		if (length > buffer.length) {
+			buffer = new float[length];
+		} else {
+			Arrays.fill(buffer, 0, length, 0f);
+		}
+		this.stride = size;
+		this.size = size;
+		writeLock().unlock();
+	}
+	
+	/**
+	 * @return length of an array holding {@code dim1} rows of {@code dim2}
+	 * @throws IllegalArgumentException 
+	 *  if a dimension is not positive or the array would be too large
+	 */
+	private static int length(int dim1, int dim2) {
+		if (dim1 <= 0 || dim2 <= 0) {
+			throw new IllegalArgumentException("Bad size");
+		}
+		long length = (long) dim1 * dim2;
+		if (length > ArrayBuffer.MAX_CAPACITY) {
+			throw new IllegalArgumentException("Buffer too large: " + dim1 + " x " + dim2);
+		}
+		return (int) length;
+	}
+	
+	private void checkIndex(int row, int i, int length) {
+		if (row < 0 || row >= firstDim) {
+			throw new ArrayIndexOutOfBoundsException("row " + row);
+		}
+		if (i < 0 || i + length > size) {
+			throw new ArrayIndexOutOfBoundsException(i);
+		}
+	}
+}
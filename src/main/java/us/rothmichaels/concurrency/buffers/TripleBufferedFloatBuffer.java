@@ -0,0 +1,405 @@
+/*
+ * TripleBufferedFloatBuffer.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Primitive float buffer where the writer never waits on readers.
+ * 
+ * The buffer keeps several internal frames (three by default). 
+ * Acquiring the write lock hands the writer a private back frame 
+ * initialized with the latest published contents; releasing the 
+ * write lock publishes that frame with a single atomic swap.
+ * Acquiring the read lock pins the latest published frame, so a 
+ * reader always sees one complete frame no matter how many frames 
+ * are published while it holds the lock.
+ * 
+ * Writers only exclude other writers. If every spare frame is 
+ * pinned by a slow reader the writer allocates another frame 
+ * instead of waiting.
+ * 
+ * {@link #getDataRef()} and {@link #getSize()} return the frame 
+ * held by the calling thread, so a thread must hold a lock to get 
+ * a consistent view. Neither lock supports conditions.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class TripleBufferedFloatBuffer implements IReadWriteLockedBuffer<float[]> {
+
+	/** Default number of internal frames */
+	public static final int DEFAULT_FRAMES = 3;
+
+	/** Latest complete frame */
+	private final AtomicReference<Frame> published;
+	/** Frames owned by this buffer, only accessed by the writer */
+	private Frame[] frames;
+	/** Length of {@link #frames}, readable without a lock */
+	private volatile int frameCount;
+	/** Capacity of the frames, only accessed by the writer */
+	private int capacity;
+	/** Frame being written */
+	private Frame back;
+	/** Thread holding the write lock */
+	private volatile Thread writer;
+	
+	private final ReentrantLock writerLock = new ReentrantLock();
+	private final ThreadLocal<ReadHold> readHold = new ThreadLocal<ReadHold>() {
+		@Override
+		protected ReadHold initialValue() {
+			return new ReadHold();
+		}
+	};
+	
+	private final Lock readLock = new ReadLock();
+	private final Lock writeLock = new WriteLock();
+	
+	/**
+	 * @param size initial buffer size
+	 */
+	public TripleBufferedFloatBuffer(int size) {
+		this(size, DEFAULT_FRAMES);
+	}
+	
+	/**
+	 * @param size initial buffer size
+	 * @param frames number of internal frames, at least two
+	 */
+	public TripleBufferedFloatBuffer(int size, int frames) {
+		if (frames < 2) {
+			throw new IllegalArgumentException("Need at least two frames.");
+		}
+		this.capacity = size;
+		this.frames = new Frame[frames];
+		for (int i = 0; i < frames; ++i) {
+			this.frames[i] = new Frame(size);
+		}
+		this.frameCount = frames;
+		this.published = new AtomicReference<Frame>(this.frames[0]);
+	}
+
+	/**
+	 * @see java.util.concurrent.locks.ReadWriteLock#readLock()
+	 */
+	@Override
+	public Lock readLock() {
+		return readLock;
+	}
+
+	/**
+	 * @see java.util.concurrent.locks.ReadWriteLock#writeLock()
+	 */
+	@Override
+	public Lock writeLock() {
+		return writeLock;
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.IReadWriteLockedBuffer#getSize()
+	 */
+	@Override
+	public int getSize() {
+		return currentFrame().size;
+	}
+
+	/**
+	 * Set the size of the buffer, growing the internal 
+	 * frames if needed. The new size is published when 
+	 * the write lock is released.
+	 * 
+	 * @see us.rothmichaels.concurrency.buffers.IReadWriteLockedBuffer#setSize(int)
+	 */
+	@Override
+	public void setSize(int size) {
+		if (size <= 0) {
+			throw new IllegalArgumentException("Bad size");
+		}
+		writeLock.lock();
+		try {
+			if (size > capacity) {
+				// pinned frames stay with their readers, the rest are replaced
+				Frame grown = new Frame(size);
+				System.arraycopy(back.data, 0, grown.data, 0, back.size);
+				Frame[] tmp = new Frame[frames.length];
+				tmp[0] = grown;
+				for (int i = 1; i < tmp.length; ++i) {
+					tmp[i] = new Frame(size);
+				}
+				frames = tmp;
+				capacity = size;
+				back = grown;
+			} else if (size > back.size) {
+				Arrays.fill(back.data, back.size, size, 0f);
+			}
+			back.size = size;
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.IReadWriteLockedBuffer#clear()
+	 */
+	@Override
+	public void clear() {
+		writeLock.lock();
+		try {
+			Arrays.fill(back.data, 0, back.size, 0f);
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * @return T 
+	 * 	the frame held by the calling thread, or the latest 
+	 *  published frame if the thread holds no lock. May be 
+	 *  larger than the current buffer size.
+	 *  
+	 * @see us.rothmichaels.concurrency.buffers.IReadWriteLockedBuffer#getDataRef()
+	 */
+	@Override
+	public float[] getDataRef() {
+		return currentFrame().data;
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.IReadWriteLockedBuffer#getDataClass()
+	 */
+	@Override
+	public Class<float[]> getDataClass() {
+		return float[].class;
+	}
+	
+	/**
+	 * @return number of internal frames currently owned by the buffer
+	 */
+	public int getFrameCount() {
+		return frameCount;
+	}
+	
+	private Frame currentFrame() {
+		if (writer == Thread.currentThread()) {
+			return back;
+		}
+		Frame held = readHold.get().frame;
+		return (held != null) ? held : published.get();
+	}
+	
+	/**
+	 * Find a frame that is neither published nor pinned by a reader.
+	 * Only called by the writer.
+	 */
+	private Frame acquireBackFrame() {
+		Frame current = published.get();
+		for (Frame f : frames) {
+			if (f != current && f.readers.get() == 0) {
+				return f;
+			}
+		}
+		Frame extra = new Frame(capacity);
+		frames = Arrays.copyOf(frames, frames.length + 1);
+		frames[frames.length - 1] = extra;
+		frameCount = frames.length;
+		return extra;
+	}
+	
+	private void beginWrite() {
+		if (writerLock.getHoldCount() == 1) {
+			Frame current = published.get();
+			back = acquireBackFrame();
+			System.arraycopy(current.data, 0, back.data, 0, current.size);
+			back.size = current.size;
+			writer = Thread.currentThread();
+		}
+	}
+	
+	private void endWrite() {
+		if (writerLock.getHoldCount() == 1) {
+			published.set(back);
+			back = null;
+			writer = null;
+		}
+	}
+	
+	/**
+	 * One internal frame.
+	 */
+	private static final class Frame {
+		final float[] data;
+		int size;
+		/** Number of readers pinning this frame */
+		final AtomicInteger readers = new AtomicInteger();
+		
+		Frame(int size) {
+			this.data = new float[size];
+			this.size = size;
+		}
+	}
+	
+	/**
+	 * Frame pinned by a reader thread.
+	 */
+	private static final class ReadHold {
+		Frame frame;
+		int holds;
+	}
+	
+	/**
+	 * Pins the latest published frame. Never waits.
+	 */
+	private class ReadLock implements Lock {
+
+		@Override
+		public void lock() {
+			ReadHold hold = readHold.get();
+			if (hold.holds++ == 0) {
+				Frame f;
+				for (;;) {
+					f = published.get();
+					f.readers.incrementAndGet();
+					if (published.get() == f) {
+						break;
+					}
+					// frame was swapped out before it was pinned
+					f.readers.decrementAndGet();
+				}
+				hold.frame = f;
+			}
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			if (Thread.interrupted()) {
+				throw new InterruptedException();
+			}
+			lock();
+		}
+
+		@Override
+		public boolean tryLock() {
+			lock();
+			return true;
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit)
+				throws InterruptedException {
+			lockInterruptibly();
+			return true;
+		}
+
+		@Override
+		public void unlock() {
+			ReadHold hold = readHold.get();
+			if (hold.holds == 0) {
+				throw new IllegalMonitorStateException();
+			}
+			if (--hold.holds == 0) {
+				hold.frame.readers.decrementAndGet();
+				hold.frame = null;
+			}
+		}
+
+		@Override
+		public Condition newCondition() {
+			throw new UnsupportedOperationException();
+		}
+	}
+	
+	/**
+	 * Acquires a private back frame, publishes it on release.
+	 */
+	private class WriteLock implements Lock {
+
+		@Override
+		public void lock() {
+			writerLock.lock();
+			beginWrite();
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			writerLock.lockInterruptibly();
+			beginWrite();
+		}
+
+		@Override
+		public boolean tryLock() {
+			if (writerLock.tryLock()) {
+				beginWrite();
+				return true;
+			} else {
+				return false;
+			}
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit)
+				throws InterruptedException {
+			if (writerLock.tryLock(time, unit)) {
+				beginWrite();
+				return true;
+			} else {
+				return false;
+			}
+		}
+
+		@Override
+		public void unlock() {
+			if (!writerLock.isHeldByCurrentThread()) {
+				throw new IllegalMonitorStateException();
+			}
+			endWrite();
+			writerLock.unlock();
+		}
+
+		@Override
+		public Condition newCondition() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
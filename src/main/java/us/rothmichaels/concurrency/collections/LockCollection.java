@@ -99,7 +99,7 @@ public class LockCollection implements Lock {
 	public boolean tryLock() {
 		if (outterLock.tryLock()) {
 			List<Lock> locked = new ArrayList<Lock>(size);
-			locked.add(this);
+			locked.add(outterLock);
 			for (Lock lock : innerLocks) {
 				if (lock.tryLock()) {
 					locked.add(lock);
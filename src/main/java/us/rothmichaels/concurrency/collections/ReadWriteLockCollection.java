@@ -42,6 +42,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
@@ -49,23 +50,54 @@ import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import us.rothmichaels.concurrency.locks.AsyncLocks;
+import us.rothmichaels.concurrency.locks.AsyncReadWriteLock;
+import us.rothmichaels.concurrency.locks.IAsyncReadWriteLock;
+import us.rothmichaels.concurrency.locks.LockHandle;
+
 /**
  * Implements a read/write lock over a collection of
  * {@link ReadWriteLock}.
+ * 
+ * If every lock in the collection is an {@link IAsyncReadWriteLock} 
+ * {@link IAsyncReadWriteLock#supportsAsync() supporting} asynchronous 
+ * acquisition, the collection can also be acquired asynchronously, 
+ * guarded by an 
+ * {@link AsyncReadWriteLock} instead of a 
+ * {@link ReentrantReadWriteLock}.
  *
  * @author Roth Michaels 
  * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
  *
  */
-public class ReadWriteLockCollection implements ReadWriteLock {
+public class ReadWriteLockCollection implements IAsyncReadWriteLock {
 
 	private final ReadWriteLock masterLock;
 	
 	private final LockCollection readLock;
 	private final LockCollection writeLock;
+	/** Master lock then the collection, null unless all are asynchronous */
+	private final List<IAsyncReadWriteLock> asyncLocks;
 	
 	public ReadWriteLockCollection(Collection<? extends ReadWriteLock> collection) {
-		this.masterLock = new ReentrantReadWriteLock();
+		List<IAsyncReadWriteLock> async = new ArrayList<IAsyncReadWriteLock>(collection.size() + 1);
+		for (ReadWriteLock lock : collection) {
+			if (!(lock instanceof IAsyncReadWriteLock) 
+					|| !((IAsyncReadWriteLock) lock).supportsAsync()) {
+				async = null;
+				break;
+			}
+			async.add((IAsyncReadWriteLock) lock);
+		}
+		if (async != null) {
+			AsyncReadWriteLock master = new AsyncReadWriteLock();
+			async.add(0, master);
+			this.masterLock = master;
+			this.asyncLocks = async;
+		} else {
+			this.masterLock = new ReentrantReadWriteLock();
+			this.asyncLocks = null;
+		}
 		int size = collection.size();
 		List<Lock> tmpR = new ArrayList<Lock>(size);
 		List<Lock> tmpW = new ArrayList<Lock>(size);
@@ -92,6 +124,41 @@ public class ReadWriteLockCollection implements ReadWriteLock {
 	public Lock writeLock() {
 		return writeLock;
 	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.locks.IAsyncReadWriteLock#readLockAsync()
+	 * @throws UnsupportedOperationException 
+	 *  if not every lock in the collection is asynchronous
+	 */
+	@Override
+	public CompletableFuture<LockHandle> readLockAsync() {
+		return AsyncLocks.acquireAll(asyncLocks(), false);
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.locks.IAsyncReadWriteLock#writeLockAsync()
+	 * @throws UnsupportedOperationException 
+	 *  if not every lock in the collection is asynchronous
+	 */
+	@Override
+	public CompletableFuture<LockHandle> writeLockAsync() {
+		return AsyncLocks.acquireAll(asyncLocks(), true);
+	}
+	
+	/**
+	 * @see us.rothmichaels.concurrency.locks.IAsyncReadWriteLock#supportsAsync()
+	 */
+	@Override
+	public boolean supportsAsync() {
+		return asyncLocks != null;
+	}
+	
+	private List<IAsyncReadWriteLock> asyncLocks() {
+		if (asyncLocks == null) {
+			throw new UnsupportedOperationException("Not every lock in the collection is asynchronous");
+		}
+		return asyncLocks;
+	}
 	
 	
 }
@@ -0,0 +1,200 @@
+/*
+ * AsyncLocks.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.locks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Composition of asynchronous lock requests.
+ * 
+ * The returned futures withdraw their underlying requests when 
+ * cancelled, and release any lock granted after cancellation.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public final class AsyncLocks {
+	
+	private AsyncLocks() {
+	}
+	
+	/**
+	 * Acquire several locks one after another, in list order.
+	 * 
+	 * @param locks locks to acquire
+	 * @param write true for the write locks, false for the read locks
+	 * @return future completed with a hold releasing every lock in reverse order
+	 */
+	public static CompletableFuture<LockHandle> acquireAll(
+			List<? extends IAsyncReadWriteLock> locks, boolean write) {
+		Acquisition acquisition = new Acquisition(locks, write);
+		acquisition.next();
+		return acquisition.result;
+	}
+	
+	/**
+	 * Run an action after each release of a requested hold.
+	 * 
+	 * @param request request to follow
+	 * @param afterRelease action run after the hold is released
+	 * @return future completed with a hold releasing the request's hold, 
+	 *  then running {@code afterRelease}
+	 */
+	public static CompletableFuture<LockHandle> onRelease(
+			final CompletableFuture<LockHandle> request, final Runnable afterRelease) {
+		final CompletableFuture<LockHandle> result = new CompletableFuture<LockHandle>();
+		request.whenComplete((h, e) -> {
+			if (e != null) {
+				result.completeExceptionally(e);
+				return;
+			}
+			LockHandle handle = new CompositeHandle(h, afterRelease);
+			if (!result.complete(handle)) {
+				h.close();
+			}
+		});
+		result.whenComplete((h, e) -> {
+			if (e instanceof CancellationException) {
+				request.cancel(false);
+			}
+		});
+		return result;
+	}
+	
+	/**
+	 * Sequence of requests, each made once the previous is granted.
+	 */
+	private static final class Acquisition {
+		
+		final List<? extends IAsyncReadWriteLock> locks;
+		final boolean write;
+		/** Holds so far, only accessed by the current step */
+		final List<LockHandle> held;
+		final CompletableFuture<LockHandle> result = new CompletableFuture<LockHandle>();
+		volatile CompletableFuture<LockHandle> pending;
+		
+		Acquisition(List<? extends IAsyncReadWriteLock> locks, boolean write) {
+			this.locks = locks;
+			this.write = write;
+			this.held = new ArrayList<LockHandle>(locks.size());
+			result.whenComplete((h, e) -> {
+				CompletableFuture<LockHandle> p = pending;
+				if (e instanceof CancellationException && p != null) {
+					p.cancel(false);
+				}
+			});
+		}
+		
+		void next() {
+			if (held.size() == locks.size()) {
+				LockHandle all = new CompositeHandle(held, null);
+				if (!result.complete(all)) {
+					all.close();
+				}
+				return;
+			}
+			IAsyncReadWriteLock lock = locks.get(held.size());
+			CompletableFuture<LockHandle> request;
+			try {
+				request = write ? lock.writeLockAsync() : lock.readLockAsync();
+			} catch (RuntimeException e) {
+				new CompositeHandle(held, null).close();
+				result.completeExceptionally(e);
+				return;
+			}
+			pending = request;
+			if (result.isDone()) {
+				request.cancel(false);
+			}
+			request.whenComplete((h, e) -> {
+				if (e != null || result.isDone()) {
+					if (h != null) {
+						h.close();
+					}
+					new CompositeHandle(held, null).close();
+					if (e != null) {
+						result.completeExceptionally(e);
+					}
+					return;
+				}
+				held.add(h);
+				next();
+			});
+		}
+	}
+	
+	/**
+	 * Releases several holds in reverse order.
+	 */
+	private static final class CompositeHandle implements LockHandle {
+		
+		private final List<LockHandle> handles;
+		private final Runnable afterRelease;
+		private final AtomicBoolean released = new AtomicBoolean();
+		
+		CompositeHandle(LockHandle handle, Runnable afterRelease) {
+			this(Collections.singletonList(handle), afterRelease);
+		}
+		
+		CompositeHandle(List<LockHandle> handles, Runnable afterRelease) {
+			this.handles = handles;
+			this.afterRelease = afterRelease;
+		}
+
+		/**
+		 * @see us.rothmichaels.concurrency.locks.LockHandle#close()
+		 */
+		@Override
+		public void close() {
+			if (released.compareAndSet(false, true)) {
+				for (int i = handles.size() - 1; i >= 0; --i) {
+					handles.get(i).close();
+				}
+				if (afterRelease != null) {
+					afterRelease.run();
+				}
+			}
+		}
+	}
+}
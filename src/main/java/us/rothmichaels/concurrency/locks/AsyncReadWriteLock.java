@@ -0,0 +1,370 @@
+/*
+ * AsyncReadWriteLock.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.locks;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * First in, first out read/write lock that can be acquired 
+ * asynchronously.
+ * 
+ * Requests that cannot be granted immediately wait in one queue as 
+ * futures, not as parked threads. Releasing the lock grants the 
+ * request at the head of the queue, along with the readers directly 
+ * behind a granted reader. The blocking {@link #readLock()} and 
+ * {@link #writeLock()} views wait on the same queue.
+ * 
+ * The locks are not reentrant and are not owned by a thread: the 
+ * views' {@code unlock()} releases one hold of that kind. Neither 
+ * lock supports conditions.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class AsyncReadWriteLock implements IAsyncReadWriteLock {
+	
+	private final ReentrantLock sync = new ReentrantLock();
+	private final ArrayDeque<Waiter> queue = new ArrayDeque<Waiter>();
+	private int readers;
+	private boolean writer;
+	
+	private final Lock readLock = new View(false);
+	private final Lock writeLock = new View(true);
+
+	/**
+	 * @see us.rothmichaels.concurrency.locks.IAsyncReadWriteLock#readLockAsync()
+	 */
+	@Override
+	public CompletableFuture<LockHandle> readLockAsync() {
+		return acquire(false);
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.locks.IAsyncReadWriteLock#writeLockAsync()
+	 */
+	@Override
+	public CompletableFuture<LockHandle> writeLockAsync() {
+		return acquire(true);
+	}
+
+	/**
+	 * @see java.util.concurrent.locks.ReadWriteLock#readLock()
+	 */
+	@Override
+	public Lock readLock() {
+		return readLock;
+	}
+
+	/**
+	 * @see java.util.concurrent.locks.ReadWriteLock#writeLock()
+	 */
+	@Override
+	public Lock writeLock() {
+		return writeLock;
+	}
+	
+	/**
+	 * @return number of requests waiting
+	 */
+	public int getQueueLength() {
+		sync.lock();
+		try {
+			return queue.size();
+		} finally {
+			sync.unlock();
+		}
+	}
+	
+	/**
+	 * Must hold {@link #sync}.
+	 */
+	private boolean available(boolean write) {
+		return !writer && (!write || readers == 0);
+	}
+	
+	/**
+	 * Must hold {@link #sync}.
+	 */
+	private void grant(boolean write) {
+		if (write) {
+			writer = true;
+		} else {
+			++readers;
+		}
+	}
+	
+	private CompletableFuture<LockHandle> acquire(boolean write) {
+		final Waiter waiter;
+		sync.lock();
+		try {
+			if (queue.isEmpty() && available(write)) {
+				grant(write);
+				return CompletableFuture.completedFuture(new Handle(write));
+			}
+			waiter = new Waiter(write);
+			queue.add(waiter);
+		} finally {
+			sync.unlock();
+		}
+		waiter.future.whenComplete((h, e) -> {
+			if (e instanceof CancellationException) {
+				withdraw(waiter);
+			}
+		});
+		return waiter.future;
+	}
+	
+	/**
+	 * Grant immediately or not at all.
+	 */
+	private boolean tryAcquire(boolean write) {
+		sync.lock();
+		try {
+			if (queue.isEmpty() && available(write)) {
+				grant(write);
+				return true;
+			}
+			return false;
+		} finally {
+			sync.unlock();
+		}
+	}
+	
+	private void withdraw(Waiter waiter) {
+		List<Waiter> granted;
+		sync.lock();
+		try {
+			if (!queue.remove(waiter)) {
+				return;
+			}
+			granted = dispatch();
+		} finally {
+			sync.unlock();
+		}
+		complete(granted);
+	}
+	
+	private void release(boolean write) {
+		List<Waiter> granted;
+		sync.lock();
+		try {
+			if (write ? !writer : readers == 0) {
+				throw new IllegalMonitorStateException();
+			}
+			if (write) {
+				writer = false;
+			} else {
+				--readers;
+			}
+			granted = dispatch();
+		} finally {
+			sync.unlock();
+		}
+		complete(granted);
+	}
+	
+	/**
+	 * Grant waiting requests from the head of the queue. 
+	 * Must hold {@link #sync}.
+	 * 
+	 * @return requests granted, to complete after releasing {@link #sync}
+	 */
+	private List<Waiter> dispatch() {
+		List<Waiter> granted = null;
+		for (Iterator<Waiter> it = queue.iterator(); it.hasNext();) {
+			Waiter w = it.next();
+			if (!available(w.write)) {
+				break;
+			}
+			it.remove();
+			grant(w.write);
+			if (granted == null) {
+				granted = new ArrayList<Waiter>(2);
+			}
+			granted.add(w);
+		}
+		return granted;
+	}
+	
+	/**
+	 * Complete granted futures, releasing grants cancelled meanwhile.
+	 */
+	private void complete(List<Waiter> granted) {
+		if (granted == null) {
+			return;
+		}
+		for (Waiter w : granted) {
+			Handle handle = new Handle(w.write);
+			if (!w.future.complete(handle)) {
+				handle.close();
+			}
+		}
+	}
+	
+	/**
+	 * A queued request.
+	 */
+	private static final class Waiter {
+		
+		final boolean write;
+		final CompletableFuture<LockHandle> future = new CompletableFuture<LockHandle>();
+		
+		Waiter(boolean write) {
+			this.write = write;
+		}
+	}
+	
+	/**
+	 * One hold of the lock.
+	 */
+	private final class Handle implements LockHandle {
+		
+		private final boolean write;
+		private final AtomicBoolean released = new AtomicBoolean();
+		
+		Handle(boolean write) {
+			this.write = write;
+		}
+
+		/**
+		 * @see us.rothmichaels.concurrency.locks.LockHandle#close()
+		 */
+		@Override
+		public void close() {
+			if (released.compareAndSet(false, true)) {
+				release(write);
+			}
+		}
+	}
+	
+	/**
+	 * Blocking view of the lock.
+	 */
+	private final class View implements Lock {
+		
+		private final boolean write;
+		
+		View(boolean write) {
+			this.write = write;
+		}
+
+		/**
+		 * @see java.util.concurrent.locks.Lock#lock()
+		 */
+		@Override
+		public void lock() {
+			acquire(write).join();
+		}
+
+		/**
+		 * @see java.util.concurrent.locks.Lock#lockInterruptibly()
+		 */
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			CompletableFuture<LockHandle> future = acquire(write);
+			try {
+				future.get();
+			} catch (InterruptedException e) {
+				if (!future.cancel(false)) {
+					release(write);
+				}
+				throw e;
+			} catch (ExecutionException e) {
+				throw new AssertionError(e);
+			}
+		}
+
+		/**
+		 * @see java.util.concurrent.locks.Lock#tryLock()
+		 */
+		@Override
+		public boolean tryLock() {
+			return tryAcquire(write);
+		}
+
+		/**
+		 * @see java.util.concurrent.locks.Lock#tryLock(long, java.util.concurrent.TimeUnit)
+		 */
+		@Override
+		public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+			CompletableFuture<LockHandle> future = acquire(write);
+			try {
+				future.get(time, unit);
+				return true;
+			} catch (TimeoutException e) {
+				return !future.cancel(false);
+			} catch (InterruptedException e) {
+				if (!future.cancel(false)) {
+					release(write);
+				}
+				throw e;
+			} catch (ExecutionException e) {
+				throw new AssertionError(e);
+			}
+		}
+
+		/**
+		 * @see java.util.concurrent.locks.Lock#unlock()
+		 */
+		@Override
+		public void unlock() {
+			release(write);
+		}
+
+		/**
+		 * @see java.util.concurrent.locks.Lock#newCondition()
+		 */
+		@Override
+		public Condition newCondition() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -0,0 +1,220 @@
+/*
+ * InstrumentedLock.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.locks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Lock wrapper recording contention statistics into a 
+ * {@link LockStats}.
+ * 
+ * Wait time is measured around every acquisition attempt, hold time 
+ * from the outermost acquisition by a thread to its matching release. 
+ * While disabled the wrapper only reads one volatile flag before 
+ * delegating. Samples spanning a change of the enabled flag are 
+ * dropped. Waiting on a {@link Condition} is not measured.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class InstrumentedLock implements Lock {
+	
+	private final Lock lock;
+	private final LockStats stats;
+	private volatile boolean enabled = true;
+	/** Changes whenever {@link #enabled} changes */
+	private volatile int epoch;
+	private final ThreadLocal<Hold> holds = new ThreadLocal<Hold>() {
+		@Override
+		protected Hold initialValue() {
+			return new Hold();
+		}
+	};
+	
+	/**
+	 * @param lock lock to instrument
+	 */
+	public InstrumentedLock(Lock lock) {
+		this(lock, new LockStats());
+	}
+	
+	/**
+	 * @param lock lock to instrument
+	 * @param stats statistics to record into
+	 */
+	public InstrumentedLock(Lock lock, LockStats stats) {
+		this.lock = lock;
+		this.stats = stats;
+	}
+	
+	/**
+	 * @return statistics recorded by this lock
+	 */
+	public LockStats getStats() {
+		return stats;
+	}
+	
+	/**
+	 * @return true if statistics are being recorded
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+	
+	/**
+	 * @param enabled true to record statistics
+	 */
+	public void setEnabled(boolean enabled) {
+		if (this.enabled != enabled) {
+			++epoch;
+			this.enabled = enabled;
+		}
+	}
+
+	/**
+	 * @see java.util.concurrent.locks.Lock#lock()
+	 */
+	@Override
+	public void lock() {
+		if (!enabled) {
+			lock.lock();
+			return;
+		}
+		long start = System.nanoTime();
+		lock.lock();
+		acquired(start);
+	}
+
+	/**
+	 * @see java.util.concurrent.locks.Lock#lockInterruptibly()
+	 */
+	@Override
+	public void lockInterruptibly() throws InterruptedException {
+		if (!enabled) {
+			lock.lockInterruptibly();
+			return;
+		}
+		long start = System.nanoTime();
+		lock.lockInterruptibly();
+		acquired(start);
+	}
+
+	/**
+	 * @see java.util.concurrent.locks.Lock#tryLock()
+	 */
+	@Override
+	public boolean tryLock() {
+		if (!enabled) {
+			return lock.tryLock();
+		}
+		long start = System.nanoTime();
+		if (lock.tryLock()) {
+			acquired(start);
+			return true;
+		} else {
+			stats.failed(System.nanoTime() - start);
+			return false;
+		}
+	}
+
+	/**
+	 * @see java.util.concurrent.locks.Lock#tryLock(long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+		if (!enabled) {
+			return lock.tryLock(time, unit);
+		}
+		long start = System.nanoTime();
+		if (lock.tryLock(time, unit)) {
+			acquired(start);
+			return true;
+		} else {
+			stats.failed(System.nanoTime() - start);
+			return false;
+		}
+	}
+
+	/**
+	 * @see java.util.concurrent.locks.Lock#unlock()
+	 */
+	@Override
+	public void unlock() {
+		if (enabled) {
+			Hold hold = holds.get();
+			if (hold.epoch == epoch && hold.depth > 0 && --hold.depth == 0) {
+				stats.released(System.nanoTime() - hold.start);
+			}
+		}
+		lock.unlock();
+	}
+
+	/**
+	 * @see java.util.concurrent.locks.Lock#newCondition()
+	 */
+	@Override
+	public Condition newCondition() {
+		return lock.newCondition();
+	}
+	
+	private void acquired(long start) {
+		long now = System.nanoTime();
+		stats.acquired(now - start);
+		Hold hold = holds.get();
+		int e = epoch;
+		if (hold.epoch != e) {
+			hold.epoch = e;
+			hold.depth = 0;
+		}
+		if (hold.depth++ == 0) {
+			hold.start = now;
+		}
+	}
+	
+	/**
+	 * Calling thread's hold on the lock.
+	 */
+	private static final class Hold {
+		int epoch;
+		int depth;
+		long start;
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * InstrumentedReadWriteLock.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.locks;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Read/write lock wrapper recording separate contention statistics 
+ * for the read and write locks.
+ * 
+ * Pass one to a buffer constructor or wrap a 
+ * {@link us.rothmichaels.concurrency.collections.ReadWriteLockCollection} 
+ * to measure it. The statistics are available from 
+ * {@link #getReadStats()}/{@link #getWriteStats()} and, once 
+ * {@link #register(String) registered}, through JMX.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class InstrumentedReadWriteLock implements ReadWriteLock, LockStatsMXBean {
+	
+	/** JMX domain the locks are registered under */
+	public static final String JMX_DOMAIN = "us.rothmichaels.concurrency";
+	
+	private final InstrumentedLock readLock;
+	private final InstrumentedLock writeLock;
+	
+	/**
+	 * @param lock lock to instrument
+	 */
+	public InstrumentedReadWriteLock(ReadWriteLock lock) {
+		this.readLock = new InstrumentedLock(lock.readLock());
+		this.writeLock = new InstrumentedLock(lock.writeLock());
+	}
+
+	/**
+	 * @see java.util.concurrent.locks.ReadWriteLock#readLock()
+	 */
+	@Override
+	public Lock readLock() {
+		return readLock;
+	}
+
+	/**
+	 * @see java.util.concurrent.locks.ReadWriteLock#writeLock()
+	 */
+	@Override
+	public Lock writeLock() {
+		return writeLock;
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.locks.LockStatsMXBean#getReadStats()
+	 */
+	@Override
+	public LockStats.Snapshot getReadStats() {
+		return readLock.getStats().snapshot();
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.locks.LockStatsMXBean#getWriteStats()
+	 */
+	@Override
+	public LockStats.Snapshot getWriteStats() {
+		return writeLock.getStats().snapshot();
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.locks.LockStatsMXBean#isEnabled()
+	 */
+	@Override
+	public boolean isEnabled() {
+		return writeLock.isEnabled();
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.locks.LockStatsMXBean#setEnabled(boolean)
+	 */
+	@Override
+	public void setEnabled(boolean enabled) {
+		readLock.setEnabled(enabled);
+		writeLock.setEnabled(enabled);
+	}
+
+	/**
+	 * @see us.rothmichaels.concurrency.locks.LockStatsMXBean#reset()
+	 */
+	@Override
+	public void reset() {
+		readLock.getStats().reset();
+		writeLock.getStats().reset();
+	}
+	
+	/**
+	 * Register with the platform MBean server.
+	 * 
+	 * @param name value of the {@code name} key of the object name
+	 * @return the registered object name
+	 * @throws IllegalStateException if the name is invalid or taken
+	 */
+	public ObjectName register(String name) {
+		try {
+			ObjectName objectName = new ObjectName(JMX_DOMAIN 
+					+ ":type=Lock,name=" + ObjectName.quote(name));
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			server.registerMBean(this, objectName);
+			return objectName;
+		} catch (JMException e) {
+			throw new IllegalStateException("Could not register " + name, e);
+		}
+	}
+	
+	/**
+	 * Remove from the platform MBean server.
+	 * 
+	 * @param objectName name returned by {@link #register(String)}
+	 */
+	public static void unregister(ObjectName objectName) {
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+		} catch (JMException e) {
+			throw new IllegalStateException("Could not unregister " + objectName, e);
+		}
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * LatencyHistogram.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.locks;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations in nanoseconds.
+ * 
+ * Bucket {@code i > 0} counts durations in {@code [2^(i-1), 2^i)}, 
+ * bucket zero counts zero. Recording is a few atomic increments 
+ * and never blocks.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public final class LatencyHistogram {
+	
+	/** Number of buckets */
+	public static final int BUCKETS = 64;
+	
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+	private final LongAdder total = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+	
+	/**
+	 * @param nanos duration to record, negative values count as zero
+	 */
+	public void record(long nanos) {
+		if (nanos < 0) {
+			nanos = 0;
+		}
+		buckets.incrementAndGet(bucket(nanos));
+		total.add(nanos);
+		long m;
+		while (nanos > (m = max.get()) && !max.compareAndSet(m, nanos)) {
+			// retry
+		}
+	}
+	
+	/**
+	 * Clear all recorded durations. Concurrent recordings may be 
+	 * partially kept.
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKETS; ++i) {
+			buckets.set(i, 0);
+		}
+		total.reset();
+		max.set(0);
+	}
+	
+	/**
+	 * @return copy of the current counts
+	 */
+	public Snapshot snapshot() {
+		long[] counts = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; ++i) {
+			counts[i] = buckets.get(i);
+		}
+		return new Snapshot(counts, total.sum(), max.get());
+	}
+	
+	/**
+	 * @param nanos non-negative duration
+	 * @return bucket index
+	 */
+	static int bucket(long nanos) {
+		return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+	}
+	
+	/**
+	 * @param bucket bucket index
+	 * @return largest duration counted by the bucket
+	 */
+	static long upperBound(int bucket) {
+		return (bucket == 0) ? 0 : (bucket >= 63) ? Long.MAX_VALUE : (1L << bucket) - 1;
+	}
+	
+	/**
+	 * Immutable copy of a histogram.
+	 *
+	 * @author Roth Michaels 
+	 * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+	 *
+	 */
+	public static final class Snapshot {
+		
+		private final long[] counts;
+		private final long count;
+		private final long totalNanos;
+		private final long maxNanos;
+		
+		Snapshot(long[] counts, long totalNanos, long maxNanos) {
+			this.counts = counts;
+			long n = 0;
+			for (long c : counts) {
+				n += c;
+			}
+			this.count = n;
+			this.totalNanos = totalNanos;
+			this.maxNanos = maxNanos;
+		}
+		
+		/**
+		 * @return number of recorded durations
+		 */
+		public long getCount() {
+			return count;
+		}
+		
+		/**
+		 * @return sum of the recorded durations
+		 */
+		public long getTotalNanos() {
+			return totalNanos;
+		}
+		
+		/**
+		 * @return mean duration, zero if nothing was recorded
+		 */
+		public double getMeanNanos() {
+			return (count == 0) ? 0 : (double) totalNanos / count;
+		}
+		
+		/**
+		 * @return longest recorded duration
+		 */
+		public long getMaxNanos() {
+			return maxNanos;
+		}
+		
+		/**
+		 * @return median, rounded up to a bucket bound
+		 */
+		public long getP50Nanos() {
+			return percentile(0.5);
+		}
+		
+		/**
+		 * @return 99th percentile, rounded up to a bucket bound
+		 */
+		public long getP99Nanos() {
+			return percentile(0.99);
+		}
+		
+		/**
+		 * @return 99.9th percentile, rounded up to a bucket bound
+		 */
+		public long getP999Nanos() {
+			return percentile(0.999);
+		}
+		
+		/**
+		 * @return copy of the bucket counts
+		 */
+		public long[] getBuckets() {
+			return counts.clone();
+		}
+		
+		/**
+		 * @param p fraction between zero and one
+		 * @return upper bound of the bucket holding the 
+		 *  {@code p} quantile, capped at the maximum
+		 */
+		public long percentile(double p) {
+			if (count == 0) {
+				return 0;
+			}
+			long rank = (long) Math.ceil(p * count);
+			long seen = 0;
+			for (int i = 0; i < counts.length; ++i) {
+				seen += counts[i];
+				if (seen >= rank && seen > 0) {
+					return Math.min(upperBound(i), maxNanos);
+				}
+			}
+			return maxNanos;
+		}
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * LockPolicy.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.locks;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Ordering policy for the lock guarding a buffer.
+ * 
+ * The policies differ in how long new readers may keep a waiting 
+ * writer out: {@link #FAIR} queues new readers behind it, 
+ * {@link #WRITER_PREFERRING} blocks new readers whenever a writer 
+ * waits, and {@link #READER_PREFERRING} admits new readers until 
+ * {@link PreferenceReadWriteLock#DEFAULT_MAX_WRITER_WAIT_MILLIS} 
+ * after the oldest writer started waiting or the last hand-off to a 
+ * writer. {@link #NON_FAIR} only blocks new readers while a writer 
+ * is first in the queue, which usually but not always keeps writers 
+ * from starving. A writer still waits for the readers already 
+ * holding the lock, and with several writers waiting, for the 
+ * writers ahead of it. Use {@link PreferenceReadWriteLock} directly 
+ * for another bound.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public enum LockPolicy {
+	
+	/**
+	 * Non-fair {@link ReentrantReadWriteLock}, the highest throughput.
+	 */
+	NON_FAIR {
+		@Override
+		public ReadWriteLock newLock() {
+			return new ReentrantReadWriteLock(false);
+		}
+	},
+	
+	/**
+	 * Fair {@link ReentrantReadWriteLock}, granting the lock in 
+	 * arrival order.
+	 */
+	FAIR {
+		@Override
+		public ReadWriteLock newLock() {
+			return new ReentrantReadWriteLock(true);
+		}
+	},
+	
+	/**
+	 * {@link PreferenceReadWriteLock} preferring writers, readers 
+	 * may starve.
+	 */
+	WRITER_PREFERRING {
+		@Override
+		public ReadWriteLock newLock() {
+			return new PreferenceReadWriteLock(true);
+		}
+	},
+	
+	/**
+	 * {@link PreferenceReadWriteLock} preferring readers, writers 
+	 * wait up to the bound.
+	 */
+	READER_PREFERRING {
+		@Override
+		public ReadWriteLock newLock() {
+			return new PreferenceReadWriteLock(false);
+		}
+	};
+	
+	/**
+	 * @return a new lock following this policy
+	 */
+	public abstract ReadWriteLock newLock();
+}
@@ -0,0 +1,140 @@
+/*
+ * LockStats.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.locks;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contention statistics for one lock: acquisitions, failed 
+ * {@code tryLock} calls, and histograms of the time spent waiting 
+ * for and holding the lock.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public final class LockStats {
+	
+	private final LongAdder acquisitions = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+	private final LatencyHistogram wait = new LatencyHistogram();
+	private final LatencyHistogram hold = new LatencyHistogram();
+	
+	void acquired(long waitNanos) {
+		acquisitions.increment();
+		wait.record(waitNanos);
+	}
+	
+	void failed(long waitNanos) {
+		failures.increment();
+		wait.record(waitNanos);
+	}
+	
+	void released(long holdNanos) {
+		hold.record(holdNanos);
+	}
+	
+	/**
+	 * Clear the statistics.
+	 */
+	public void reset() {
+		acquisitions.reset();
+		failures.reset();
+		wait.reset();
+		hold.reset();
+	}
+	
+	/**
+	 * @return copy of the current statistics
+	 */
+	public Snapshot snapshot() {
+		return new Snapshot(acquisitions.sum(), failures.sum(), 
+				wait.snapshot(), hold.snapshot());
+	}
+	
+	/**
+	 * Immutable copy of the statistics.
+	 *
+	 * @author Roth Michaels 
+	 * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+	 *
+	 */
+	public static final class Snapshot {
+		
+		private final long acquisitions;
+		private final long failedAcquisitions;
+		private final LatencyHistogram.Snapshot wait;
+		private final LatencyHistogram.Snapshot hold;
+		
+		Snapshot(long acquisitions, long failedAcquisitions, 
+				LatencyHistogram.Snapshot wait, LatencyHistogram.Snapshot hold) {
+			this.acquisitions = acquisitions;
+			this.failedAcquisitions = failedAcquisitions;
+			this.wait = wait;
+			this.hold = hold;
+		}
+		
+		/**
+		 * @return successful acquisitions, counting reentrant ones
+		 */
+		public long getAcquisitions() {
+			return acquisitions;
+		}
+		
+		/**
+		 * @return {@code tryLock} calls that did not get the lock
+		 */
+		public long getFailedAcquisitions() {
+			return failedAcquisitions;
+		}
+		
+		/**
+		 * @return time spent acquiring or failing to acquire the lock
+		 */
+		public LatencyHistogram.Snapshot getWait() {
+			return wait;
+		}
+		
+		/**
+		 * @return time from outermost acquisition to release
+		 */
+		public LatencyHistogram.Snapshot getHold() {
+			return hold;
+		}
+	}
+}
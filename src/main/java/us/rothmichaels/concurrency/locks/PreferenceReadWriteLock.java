@@ -0,0 +1,397 @@
+/*
+ * PreferenceReadWriteLock.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.locks;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Read/write lock preferring either readers or writers, with a 
+ * bound on how long readers may keep a waiting writer out.
+ * 
+ * When preferring writers, new readers wait whenever a writer is 
+ * waiting, so a writer only waits for the readers already holding 
+ * the lock. When preferring readers, new readers are admitted while 
+ * the lock is not write locked until a writer has been waiting for 
+ * the maximum writer wait, after which new readers queue behind it. 
+ * The wait is measured from when the longest waiting writer started 
+ * waiting, or from the last hand-off to a writer if that is later.
+ * 
+ * Both locks are reentrant, a thread holding the read lock may 
+ * acquire it again even while writers wait, and the write lock 
+ * holder may also acquire the read lock. The read lock must be 
+ * released by the thread that acquired it. Neither lock supports 
+ * conditions.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class PreferenceReadWriteLock implements ReadWriteLock {
+	
+	/** Default maximum time readers may keep a waiting writer out */
+	public static final long DEFAULT_MAX_WRITER_WAIT_MILLIS = 10;
+	
+	private final boolean preferWriters;
+	/** Maximum writer wait in nanoseconds */
+	private final long maxWriterWait;
+	
+	private final ReentrantLock sync = new ReentrantLock();
+	/** Signalled whenever the lock may have become available */
+	private final Condition changed = sync.newCondition();
+	private int readers;
+	private Thread writer;
+	private int writeHolds;
+	/** Start times of the waiting writers, in arrival order */
+	private final ArrayDeque<long[]> waitingWriters = new ArrayDeque<long[]>();
+	/** Time the write lock was last handed to a waiting writer */
+	private long lastHandOff;
+	/** Read holds of the current thread */
+	private final ThreadLocal<int[]> readHolds = new ThreadLocal<int[]>() {
+		@Override
+		protected int[] initialValue() {
+			return new int[1];
+		}
+	};
+	
+	private final Lock readLock = new ReadLock();
+	private final Lock writeLock = new WriteLock();
+	
+	/**
+	 * @param preferWriters true to prefer writers, false to prefer readers
+	 */
+	public PreferenceReadWriteLock(boolean preferWriters) {
+		this(preferWriters, DEFAULT_MAX_WRITER_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+	}
+	
+	/**
+	 * @param preferWriters true to prefer writers, false to prefer readers
+	 * @param maxWriterWait 
+	 *  maximum time new readers are admitted ahead of a waiting writer, 
+	 *  only used when preferring readers
+	 * @param unit unit of {@code maxWriterWait}
+	 * @throws IllegalArgumentException if {@code maxWriterWait} is negative
+	 */
+	public PreferenceReadWriteLock(boolean preferWriters, long maxWriterWait, TimeUnit unit) {
+		if (maxWriterWait < 0) {
+			throw new IllegalArgumentException("maxWriterWait < 0");
+		}
+		this.preferWriters = preferWriters;
+		this.maxWriterWait = unit.toNanos(maxWriterWait);
+	}
+	
+	/**
+	 * @return true if writers are preferred
+	 */
+	public boolean isWriterPreferring() {
+		return preferWriters;
+	}
+	
+	/**
+	 * @param unit unit of the result
+	 * @return maximum time new readers are admitted ahead of a waiting writer
+	 */
+	public long getMaxWriterWait(TimeUnit unit) {
+		return unit.convert(maxWriterWait, TimeUnit.NANOSECONDS);
+	}
+	
+	/**
+	 * @return number of read holds
+	 */
+	public int getReadLockCount() {
+		sync.lock();
+		try {
+			return readers;
+		} finally {
+			sync.unlock();
+		}
+	}
+	
+	/**
+	 * @return true if some thread holds the write lock
+	 */
+	public boolean isWriteLocked() {
+		sync.lock();
+		try {
+			return writer != null;
+		} finally {
+			sync.unlock();
+		}
+	}
+	
+	/**
+	 * @return number of threads waiting for the write lock
+	 */
+	public int getQueuedWriterCount() {
+		sync.lock();
+		try {
+			return waitingWriters.size();
+		} finally {
+			sync.unlock();
+		}
+	}
+
+	/**
+	 * @see java.util.concurrent.locks.ReadWriteLock#readLock()
+	 */
+	@Override
+	public Lock readLock() {
+		return readLock;
+	}
+
+	/**
+	 * @see java.util.concurrent.locks.ReadWriteLock#writeLock()
+	 */
+	@Override
+	public Lock writeLock() {
+		return writeLock;
+	}
+	
+	/**
+	 * Must hold {@link #sync}.
+	 */
+	private boolean mayEnter(boolean write, Thread current) {
+		if (writer != null) {
+			return writer == current;
+		}
+		if (write) {
+			return readers == 0;
+		}
+		if (waitingWriters.isEmpty()) {
+			return true;
+		}
+		if (preferWriters) {
+			return false;
+		}
+		long start = Math.max(lastHandOff, waitingWriters.peekFirst()[0]);
+		return System.nanoTime() - start < maxWriterWait;
+	}
+	
+	/**
+	 * @param nanos maximum time to wait, only used if {@code timed}
+	 * @return true if acquired, false if timed out
+	 */
+	private boolean acquire(boolean write, boolean interruptible, 
+			boolean timed, long nanos) throws InterruptedException {
+		Thread current = Thread.currentThread();
+		if (interruptible) {
+			sync.lockInterruptibly();
+		} else {
+			sync.lock();
+		}
+		try {
+			int[] holds = write ? null : readHolds.get();
+			boolean reentering = !write && holds[0] > 0;
+			if (!reentering && !mayEnter(write, current)) {
+				if (timed && nanos <= 0) {
+					return false;
+				}
+				long[] waitStart = null;
+				if (write) {
+					waitStart = new long[] { System.nanoTime() };
+					waitingWriters.addLast(waitStart);
+				}
+				boolean acquired = false;
+				try {
+					while (!mayEnter(write, current)) {
+						if (timed) {
+							if (nanos <= 0) {
+								return false;
+							}
+							nanos = changed.awaitNanos(nanos);
+						} else if (interruptible) {
+							changed.await();
+						} else {
+							changed.awaitUninterruptibly();
+						}
+					}
+					acquired = true;
+				} finally {
+					if (write) {
+						waitingWriters.remove(waitStart);
+						if (acquired) {
+							lastHandOff = System.nanoTime();
+						} else {
+							// readers held back by this writer may enter
+							changed.signalAll();
+						}
+					}
+				}
+			}
+			if (write) {
+				writer = current;
+				++writeHolds;
+			} else {
+				++holds[0];
+				++readers;
+			}
+			return true;
+		} finally {
+			sync.unlock();
+		}
+	}
+	
+	private boolean acquireUninterruptibly(boolean write) {
+		try {
+			return acquire(write, false, false, 0);
+		} catch (InterruptedException e) {
+			throw new AssertionError(e);
+		}
+	}
+	
+	private void releaseRead() {
+		sync.lock();
+		try {
+			int[] holds = readHolds.get();
+			if (holds[0] == 0) {
+				throw new IllegalMonitorStateException();
+			}
+			--holds[0];
+			if (--readers == 0) {
+				changed.signalAll();
+			}
+		} finally {
+			sync.unlock();
+		}
+	}
+	
+	private void releaseWrite() {
+		sync.lock();
+		try {
+			if (writer != Thread.currentThread()) {
+				throw new IllegalMonitorStateException();
+			}
+			if (--writeHolds == 0) {
+				writer = null;
+				changed.signalAll();
+			}
+		} finally {
+			sync.unlock();
+		}
+	}
+	
+	/**
+	 * Either view of the lock.
+	 */
+	private abstract class View implements Lock {
+		
+		private final boolean write;
+		
+		View(boolean write) {
+			this.write = write;
+		}
+
+		/**
+		 * @see java.util.concurrent.locks.Lock#lock()
+		 */
+		@Override
+		public void lock() {
+			acquireUninterruptibly(write);
+		}
+
+		/**
+		 * @see java.util.concurrent.locks.Lock#lockInterruptibly()
+		 */
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			acquire(write, true, false, 0);
+		}
+
+		/**
+		 * @see java.util.concurrent.locks.Lock#tryLock()
+		 */
+		@Override
+		public boolean tryLock() {
+			try {
+				return acquire(write, false, true, 0);
+			} catch (InterruptedException e) {
+				throw new AssertionError(e);
+			}
+		}
+
+		/**
+		 * @see java.util.concurrent.locks.Lock#tryLock(long, java.util.concurrent.TimeUnit)
+		 */
+		@Override
+		public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+			return acquire(write, true, true, unit.toNanos(time));
+		}
+
+		/**
+		 * @see java.util.concurrent.locks.Lock#newCondition()
+		 */
+		@Override
+		public Condition newCondition() {
+			throw new UnsupportedOperationException();
+		}
+	}
+	
+	private final class ReadLock extends View {
+		
+		ReadLock() {
+			super(false);
+		}
+
+		/**
+		 * @see java.util.concurrent.locks.Lock#unlock()
+		 */
+		@Override
+		public void unlock() {
+			releaseRead();
+		}
+	}
+	
+	private final class WriteLock extends View {
+		
+		WriteLock() {
+			super(true);
+		}
+
+		/**
+		 * @see java.util.concurrent.locks.Lock#unlock()
+		 */
+		@Override
+		public void unlock() {
+			releaseWrite();
+		}
+	}
+}
@@ -0,0 +1,396 @@
+/*
+ * RangeReadWriteLock.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.locks;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Read/write lock over ranges {@code [from, to)} of an index space.
+ * 
+ * Overlapping ranges exclude each other unless both are read locked, 
+ * disjoint ranges never do. {@link #readLock()} and 
+ * {@link #writeLock()} lock the full range, so a range lock can guard 
+ * a whole buffer while workers lock parts of it through 
+ * {@link #range(long, long)}.
+ * 
+ * Requests are kept in one list in arrival order and a request is 
+ * granted once no earlier request, held or waiting, conflicts with 
+ * it. Writers are therefore not starved by overlapping readers. 
+ * Acquiring costs one uncontended mutex and a scan of the earlier 
+ * requests, which is cheap while few ranges are held at once. A 
+ * waiting request is only woken when a request it conflicts with 
+ * is removed, so releasing a range leaves waiters on disjoint 
+ * ranges asleep.
+ * 
+ * {@link #addRangeWriteListener(Runnable)} lets the owner of the 
+ * guarded data observe writes to ranges, for example to bump a 
+ * version, without wrapping every range lock.
+ * 
+ * The locks are not reentrant and do not support conditions.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class RangeReadWriteLock implements ReadWriteLock {
+	
+	private final ReentrantLock sync = new ReentrantLock();
+	/** Oldest request */
+	private Request head;
+	/** Newest request */
+	private Request tail;
+	
+	private final Range full = new Range(0, Long.MAX_VALUE);
+	private final CopyOnWriteArrayList<Runnable> rangeWriteListeners = 
+			new CopyOnWriteArrayList<Runnable>();
+
+	/**
+	 * Read lock the full range.
+	 * 
+	 * @see java.util.concurrent.locks.ReadWriteLock#readLock()
+	 */
+	@Override
+	public Lock readLock() {
+		return full.readLock;
+	}
+
+	/**
+	 * Write lock the full range.
+	 * 
+	 * @see java.util.concurrent.locks.ReadWriteLock#writeLock()
+	 */
+	@Override
+	public Lock writeLock() {
+		return full.writeLock;
+	}
+	
+	/**
+	 * @param from first index of the range
+	 * @param to index past the end of the range
+	 * @return read and write locks of {@code [from, to)}
+	 * @throws IllegalArgumentException 
+	 *  if {@code from} is negative or greater than {@code to}
+	 */
+	public ReadWriteLock range(long from, long to) {
+		if (from < 0 || from > to) {
+			throw new IllegalArgumentException("Bad range [" + from + ", " + to + ")");
+		}
+		return new Range(from, to);
+	}
+	
+	/**
+	 * Run {@code listener} on the releasing thread after the write 
+	 * lock of a range from {@link #range(long, long)} is released. 
+	 * Releasing {@link #writeLock()} does not call it.
+	 * 
+	 * @param listener called after each range write
+	 */
+	public void addRangeWriteListener(Runnable listener) {
+		rangeWriteListeners.add(listener);
+	}
+	
+	/**
+	 * @param listener listener to remove
+	 * @return true if the listener was registered
+	 */
+	public boolean removeRangeWriteListener(Runnable listener) {
+		return rangeWriteListeners.remove(listener);
+	}
+	
+	/**
+	 * @return number of ranges held or waited for
+	 */
+	public int getRequestCount() {
+		sync.lock();
+		try {
+			int n = 0;
+			for (Request r = head; r != null; r = r.next) {
+				++n;
+			}
+			return n;
+		} finally {
+			sync.unlock();
+		}
+	}
+	
+	/**
+	 * Must hold {@link #sync}.
+	 */
+	private boolean grantable(Request request) {
+		for (Request r = head; r != request; r = r.next) {
+			if (r.conflicts(request)) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * @param nanos maximum time to wait, only used if {@code timed}
+	 * @return true if acquired, false if timed out
+	 */
+	private boolean acquire(Range range, boolean write, boolean interruptible, 
+			boolean timed, long nanos) throws InterruptedException {
+		Request request = new Request(range, write);
+		if (interruptible) {
+			sync.lockInterruptibly();
+		} else {
+			sync.lock();
+		}
+		try {
+			enqueue(request);
+			boolean acquired = false;
+			try {
+				while (!grantable(request)) {
+					if (request.ready == null) {
+						request.ready = sync.newCondition();
+					}
+					if (timed) {
+						if (nanos <= 0) {
+							return false;
+						}
+						nanos = request.ready.awaitNanos(nanos);
+					} else if (interruptible) {
+						request.ready.await();
+					} else {
+						request.ready.awaitUninterruptibly();
+					}
+				}
+				acquired = true;
+			} finally {
+				if (!acquired) {
+					remove(request);
+				}
+			}
+			return true;
+		} finally {
+			sync.unlock();
+		}
+	}
+	
+	private boolean acquireUninterruptibly(Range range, boolean write) {
+		try {
+			return acquire(range, write, false, false, 0);
+		} catch (InterruptedException e) {
+			throw new AssertionError(e);
+		}
+	}
+	
+	private void release(Range range, boolean write) {
+		Thread current = Thread.currentThread();
+		sync.lock();
+		try {
+			Request r = head;
+			while (r != null && !(r.thread == current && r.write == write 
+					&& r.range.from == range.from && r.range.to == range.to)) {
+				r = r.next;
+			}
+			if (r == null) {
+				throw new IllegalMonitorStateException();
+			}
+			remove(r);
+		} finally {
+			sync.unlock();
+		}
+		if (write && range != full) {
+			for (Runnable listener : rangeWriteListeners) {
+				listener.run();
+			}
+		}
+	}
+	
+	/**
+	 * Must hold {@link #sync}.
+	 */
+	private void enqueue(Request request) {
+		if (tail == null) {
+			head = request;
+		} else {
+			tail.next = request;
+			request.prev = tail;
+		}
+		tail = request;
+	}
+	
+	/**
+	 * Remove a request and wake the later waiters it conflicted with, 
+	 * earlier requests never waited for it. Must hold {@link #sync}.
+	 */
+	private void remove(Request request) {
+		if (request.prev == null) {
+			head = request.next;
+		} else {
+			request.prev.next = request.next;
+		}
+		if (request.next == null) {
+			tail = request.prev;
+		} else {
+			request.next.prev = request.prev;
+		}
+		for (Request r = request.next; r != null; r = r.next) {
+			if (r.ready != null && r.conflicts(request)) {
+				r.ready.signal();
+			}
+		}
+	}
+	
+	/**
+	 * A held or waiting range.
+	 */
+	private static final class Request {
+		
+		final Range range;
+		final boolean write;
+		final Thread thread = Thread.currentThread();
+		/** Signalled when a conflicting request is removed, created on first wait */
+		Condition ready;
+		Request prev;
+		Request next;
+		
+		Request(Range range, boolean write) {
+			this.range = range;
+			this.write = write;
+		}
+		
+		boolean conflicts(Request other) {
+			return (write || other.write) 
+					&& range.from < other.range.to && other.range.from < range.to;
+		}
+	}
+	
+	/**
+	 * Read and write locks of one range.
+	 */
+	private final class Range implements ReadWriteLock {
+		
+		final long from;
+		final long to;
+		final Lock readLock = new View(false);
+		final Lock writeLock = new View(true);
+		
+		Range(long from, long to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		/**
+		 * @see java.util.concurrent.locks.ReadWriteLock#readLock()
+		 */
+		@Override
+		public Lock readLock() {
+			return readLock;
+		}
+
+		/**
+		 * @see java.util.concurrent.locks.ReadWriteLock#writeLock()
+		 */
+		@Override
+		public Lock writeLock() {
+			return writeLock;
+		}
+		
+		/**
+		 * Read or write lock of the enclosing range.
+		 */
+		private final class View implements Lock {
+			
+			private final boolean write;
+			
+			View(boolean write) {
+				this.write = write;
+			}
+
+			/**
+			 * @see java.util.concurrent.locks.Lock#lock()
+			 */
+			@Override
+			public void lock() {
+				acquireUninterruptibly(Range.this, write);
+			}
+
+			/**
+			 * @see java.util.concurrent.locks.Lock#lockInterruptibly()
+			 */
+			@Override
+			public void lockInterruptibly() throws InterruptedException {
+				acquire(Range.this, write, true, false, 0);
+			}
+
+			/**
+			 * @see java.util.concurrent.locks.Lock#tryLock()
+			 */
+			@Override
+			public boolean tryLock() {
+				try {
+					return acquire(Range.this, write, false, true, 0);
+				} catch (InterruptedException e) {
+					throw new AssertionError(e);
+				}
+			}
+
+			/**
+			 * @see java.util.concurrent.locks.Lock#tryLock(long, java.util.concurrent.TimeUnit)
+			 */
+			@Override
+			public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+				return acquire(Range.this, write, true, true, unit.toNanos(time));
+			}
+
+			/**
+			 * @see java.util.concurrent.locks.Lock#unlock()
+			 */
+			@Override
+			public void unlock() {
+				release(Range.this, write);
+			}
+
+			/**
+			 * @see java.util.concurrent.locks.Lock#newCondition()
+			 */
+			@Override
+			public Condition newCondition() {
+				throw new UnsupportedOperationException();
+			}
+		}
+	}
+}
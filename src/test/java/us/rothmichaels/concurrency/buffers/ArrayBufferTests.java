@@ -109,6 +109,62 @@ public class ArrayBufferTests {
 		testBuffer.setSize(-1);
 	}
 	
+	@Test
+	public void testAmortizedGrowth() {
+		int reallocations = 0;
+		Object data = testBuffer.getDataRef();
+		for (int size = SIZE1 + 1; size <= 100 * SIZE1; ++size) {
+			testBuffer.setSize(size);
+			if (testBuffer.getDataRef() != data) {
+				++reallocations;
+				data = testBuffer.getDataRef();
+			}
+		}
+		assertEquals(100 * SIZE1, testBuffer.getSize());
+		assertTrue("Too many reallocations: " + reallocations, reallocations < 20);
+		
+		testBuffer.setSize(SIZE2);
+		assertSame("Shrinking reallocated.", data, testBuffer.getDataRef());
+	}
+	
+	@Test
+	public void testEnsureCapacityAndTrim() {
+		testBuffer.ensureCapacity(SIZE3);
+		assertTrue(testBuffer.getCapacity() >= SIZE3);
+		assertEquals(SIZE1, testBuffer.getSize());
+		Object data = testBuffer.getDataRef();
+		testBuffer.setSize(SIZE3);
+		assertSame(data, testBuffer.getDataRef());
+		
+		testBuffer.setSize(SIZE2);
+		testBuffer.trimToSize();
+		assertEquals(SIZE2, testBuffer.getCapacity());
+		assertEquals(SIZE2, testBuffer.getSize());
+	}
+	
+	@Test
+	public void testGrowKeepsContentsAndZeroesTail() {
+		ArrayBufferT buffer = new ArrayBufferT(SIZE1);
+		buffer.getDataRef()[SIZE2 - 1] = 1;
+		buffer.getDataRef()[SIZE1 - 1] = 2;
+		buffer.setSize(SIZE2);
+		buffer.setSize(SIZE3);
+		assertEquals(1, buffer.getDataRef()[SIZE2 - 1]);
+		assertEquals(0, buffer.getDataRef()[SIZE1 - 1]);
+	}
+	
+	@Test
+	public void testGrowthFactorOne() {
+		testBuffer.setGrowthFactor(1f);
+		testBuffer.setSize(SIZE3);
+		assertEquals(SIZE3, testBuffer.getCapacity());
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testBadGrowthFactor() {
+		testBuffer.setGrowthFactor(0.5f);
+	}
+	
 	AsyncTester makeLockTester(final Lock lock) {
 		return new AsyncTester(new Runnable() {
 			@Override
@@ -163,6 +219,60 @@ public class ArrayBufferTests {
 		testBuffer.writeLock().unlock();
 	}
 	
+	@Test
+	public void testClearKeepsReference() {
+		Object ref = testBuffer.getDataRef();
+		testBuffer.clear();
+		assertSame(ref, testBuffer.getDataRef());
+	}
+	
+	@Test
+	public void testLazyClear() {
+		Object ref = testBuffer.getDataRef();
+		assertFalse(testBuffer.isLazyClear());
+		assertEquals(SIZE1, testBuffer.getWatermark());
+		testBuffer.setLazyClear(true);
+		testBuffer.clear();
+		assertSame(ref, testBuffer.getDataRef());
+		assertEquals(0, testBuffer.getWatermark());
+		
+		testBuffer.writeLock().lock();
+		testBuffer.zeroTo(SIZE2);
+		assertEquals(SIZE2, testBuffer.getWatermark());
+		testBuffer.zeroTo(1);
+		assertEquals(SIZE2, testBuffer.getWatermark());
+		testBuffer.setWatermark(SIZE1);
+		assertEquals(SIZE1, testBuffer.getWatermark());
+		testBuffer.writeLock().unlock();
+		
+		testBuffer.clear();
+		testBuffer.setLazyClear(false);
+		assertEquals(SIZE1, testBuffer.getWatermark());
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testBadWatermark() {
+		testBuffer.setWatermark(SIZE1 + 1);
+	}
+	
+	@Test
+	public void testLazyClearZeroTo() {
+		int[] buf = ((ArrayBufferT) testBuffer).getDataRef();
+		for (int i = 0; i < SIZE1; ++i) {
+			buf[i] = i + 1;
+		}
+		testBuffer.setLazyClear(true);
+		testBuffer.clear();
+		// memory untouched until zeroed on demand
+		assertEquals(SIZE1, buf[SIZE1 - 1]);
+		testBuffer.writeLock().lock();
+		testBuffer.zeroTo(SIZE2);
+		testBuffer.writeLock().unlock();
+		for (int i = 0; i < SIZE1; ++i) {
+			assertEquals((i < SIZE2) ? 0 : i + 1, buf[i]);
+		}
+	}
+	
 	@Test
 	public void testClearWhenWriteLocked() throws InterruptedException {
 			AsyncTester tester = makeLockTester(testBuffer.writeLock());
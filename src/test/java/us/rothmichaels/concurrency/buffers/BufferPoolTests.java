@@ -0,0 +1,225 @@
+/*
+ * BufferPoolTests.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import us.rothmichaels.testing.async.AsyncTester;
+
+/**
+ * Tests {@link us.rothmichaels.concurrency.buffers.BufferPool}.
+ *
+ * @author Roth Michaels
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class BufferPoolTests {
+
+	static final int SIZE = 100;
+	static final int DIM1 = 3;
+
+	BufferPool pool;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		pool = new BufferPool();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+	}
+
+	@Test
+	public void testAcquireCleared() {
+		FloatBuffer first;
+		try (BufferPool.Handle<FloatBuffer> h = pool.acquireFloat(SIZE)) {
+			first = h.get();
+			assertEquals(SIZE, first.getSize());
+			assertEquals(128, first.getCapacity());
+			first.getDataRef()[SIZE - 1] = 1f;
+		}
+		try (BufferPool.Handle<FloatBuffer> h = pool.acquireFloat(SIZE - 1)) {
+			assertSame(first, h.get());
+			assertEquals(SIZE - 1, h.get().getSize());
+			assertEquals(0f, h.get().getDataRef()[SIZE - 2], 0f);
+		}
+		try (BufferPool.Handle<FloatBuffer> h = pool.acquireFloat(SIZE)) {
+			assertEquals(0f, h.get().getDataRef()[SIZE - 1], 0f);
+		}
+	}
+
+	@Test
+	public void testCapacityClasses() {
+		BufferPool.Handle<FloatBuffer> h = pool.acquireFloat(SIZE);
+		FloatBuffer first = h.get();
+		h.close();
+		BufferPool.Handle<FloatBuffer> big = pool.acquireFloat(2 * SIZE);
+		assertNotSame(first, big.get());
+		assertTrue(big.get().getCapacity() >= 2 * SIZE);
+		big.close();
+	}
+
+	@Test
+	public void test2D() {
+		Float2DBuffer first;
+		try (BufferPool.Handle<Float2DBuffer> h = pool.acquireFloat2D(DIM1, SIZE)) {
+			first = h.get();
+			assertEquals(DIM1, first.getFirstDim());
+			first.getDataRef()[DIM1 - 1][0] = 1f;
+		}
+		try (BufferPool.Handle<Float2DBuffer> h = pool.acquireFloat2D(DIM1 + 1, SIZE)) {
+			assertNotSame(first, h.get());
+		}
+		try (BufferPool.Handle<Float2DBuffer> h = pool.acquireFloat2D(DIM1, SIZE)) {
+			assertSame(first, h.get());
+			assertEquals(0f, h.get().getDataRef()[DIM1 - 1][0], 0f);
+		}
+	}
+
+	@Test
+	public void testSharedOverflow() throws InterruptedException {
+		pool = new BufferPool(BufferPool.DEFAULT_MAX_RETAINED_BYTES, 0);
+		BufferPool.Handle<FloatBuffer> h = pool.acquireFloat(SIZE);
+		final FloatBuffer first = h.get();
+		h.close();
+		assertEquals(4 * 128, pool.getRetainedBytes());
+		AsyncTester tester = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				try (BufferPool.Handle<FloatBuffer> h = pool.acquireFloat(SIZE)) {
+					assertSame(first, h.get());
+				}
+			}
+		});
+		tester.runTest();
+		tester.verify();
+	}
+
+	@Test
+	public void testRetainedLimit() {
+		pool = new BufferPool(4 * 128, 0);
+		BufferPool.Handle<FloatBuffer> h1 = pool.acquireFloat(SIZE);
+		BufferPool.Handle<FloatBuffer> h2 = pool.acquireFloat(SIZE);
+		h1.close();
+		h2.close();
+		assertEquals(4 * 128, pool.getRetainedBytes());
+		try (BufferPool.Handle<FloatBuffer> h = pool.acquireFloat(SIZE)) {
+			assertEquals(0, pool.getRetainedBytes());
+		}
+	}
+
+	@Test
+	public void testDoubleClose() {
+		pool = new BufferPool(BufferPool.DEFAULT_MAX_RETAINED_BYTES, 0);
+		BufferPool.Handle<FloatBuffer> h = pool.acquireFloat(SIZE);
+		h.close();
+		h.close();
+		assertEquals(4 * 128, pool.getRetainedBytes());
+	}
+
+	@Test
+	public void testThreadCacheCounted() {
+		pool = new BufferPool(4 * 128, BufferPool.DEFAULT_THREAD_CACHE_SIZE);
+		BufferPool.Handle<FloatBuffer> h1 = pool.acquireFloat(SIZE);
+		BufferPool.Handle<FloatBuffer> h2 = pool.acquireFloat(SIZE);
+		h1.close();
+		h2.close();
+		assertEquals(4 * 128, pool.getRetainedBytes());
+		try (BufferPool.Handle<FloatBuffer> h = pool.acquireFloat(SIZE)) {
+			assertEquals(0, pool.getRetainedBytes());
+		}
+	}
+
+	@Test
+	public void testGrownCapacityCounted() {
+		pool = new BufferPool(BufferPool.DEFAULT_MAX_RETAINED_BYTES, 0);
+		BufferPool.Handle<FloatBuffer> h = pool.acquireFloat(SIZE);
+		h.get().setGrowthFactor(1f);
+		h.get().setSize(200);
+		h.close();
+		assertEquals(4 * 200, pool.getRetainedBytes());
+		try (BufferPool.Handle<FloatBuffer> h2 = pool.acquireFloat(SIZE)) {
+			assertEquals(0, pool.getRetainedBytes());
+		}
+	}
+
+	@Test
+	public void testReleaseResetsSettings() {
+		FloatBuffer first;
+		try (BufferPool.Handle<FloatBuffer> h = pool.acquireFloat(SIZE)) {
+			first = h.get();
+			first.setLazyClear(true);
+			first.setGrowthFactor(3f);
+			first.addVersionListener(v -> fail("Listener kept."), Runnable::run);
+		}
+		try (BufferPool.Handle<FloatBuffer> h = pool.acquireFloat(SIZE)) {
+			assertSame(first, h.get());
+			assertFalse(first.isLazyClear());
+			assertEquals(ArrayBuffer.DEFAULT_GROWTH_FACTOR, first.getGrowthFactor(), 0f);
+			first.writeLock().lock();
+			first.writeLock().unlock();
+		}
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testResetPastCapacity() {
+		new FloatBuffer(SIZE).reset(SIZE + 1);
+	}
+
+	@Test(expected=IllegalStateException.class)
+	public void testGetAfterClose() {
+		BufferPool.Handle<FloatBuffer> h = pool.acquireFloat(SIZE);
+		h.close();
+		h.get();
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testBadSize() {
+		pool.acquireFloat(0);
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * ChannelTransferTests.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests channel transfers of the buffer types.
+ *
+ * @author Roth Michaels
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class ChannelTransferTests {
+
+	/** More than one transfer chunk */
+	static final int SIZE = ChannelIO.CHUNK_BYTES / 4 + 123;
+
+	ByteArrayOutputStream out;
+	Path file;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		out = new ByteArrayOutputStream();
+		file = Files.createTempFile("channel", ".buf");
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		Files.deleteIfExists(file);
+	}
+	
+	static float value(int i) {
+		return i * 0.5f - 7f;
+	}
+	
+	void checkBytes(ByteOrder order, int n) {
+		ByteBuffer bytes = ByteBuffer.wrap(out.toByteArray()).order(order);
+		assertEquals(4 * n, bytes.remaining());
+		for (int i = 0; i < n; ++i) {
+			assertEquals(value(i), bytes.getFloat(), 0f);
+		}
+	}
+
+	@Test
+	public void testFloatBufferRoundTrip() throws IOException {
+		FloatBuffer a = new FloatBuffer(SIZE);
+		for (int i = 0; i < SIZE; ++i) {
+			a.getDataRef()[i] = value(i);
+		}
+		assertEquals(4L * SIZE, a.writeTo(Channels.newChannel(out), ByteOrder.BIG_ENDIAN));
+		checkBytes(ByteOrder.BIG_ENDIAN, SIZE);
+		
+		FloatBuffer b = new FloatBuffer(SIZE);
+		b.readFrom(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), 
+				ByteOrder.BIG_ENDIAN);
+		assertEquals(value(SIZE - 1), b.getDataRef()[SIZE - 1], 0f);
+	}
+
+	@Test
+	public void testLazyClearedWritesZeros() throws IOException {
+		FloatBuffer a = new FloatBuffer(8);
+		a.fill(1f);
+		a.setLazyClear(true);
+		a.clear();
+		a.writeTo(Channels.newChannel(out), ByteOrder.LITTLE_ENDIAN);
+		for (byte b : out.toByteArray()) {
+			assertEquals(0, b);
+		}
+	}
+
+	@Test(expected=EOFException.class)
+	public void testReadShort() throws IOException {
+		new FloatBuffer(4).readFrom(Channels.newChannel(
+				new ByteArrayInputStream(new byte[15])), ByteOrder.BIG_ENDIAN);
+	}
+
+	@Test
+	public void testFloat2DRowMajor() throws IOException {
+		Float2DBuffer a = new Float2DBuffer(2, 3);
+		for (int i = 0; i < 6; ++i) {
+			a.getDataRef()[i / 3][i % 3] = value(i);
+		}
+		a.writeTo(Channels.newChannel(out), ByteOrder.LITTLE_ENDIAN);
+		checkBytes(ByteOrder.LITTLE_ENDIAN, 6);
+		Float2DBuffer b = new Float2DBuffer(2, 3);
+		b.readFrom(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), 
+				ByteOrder.LITTLE_ENDIAN);
+		assertEquals(value(4), b.getDataRef()[1][1], 0f);
+	}
+
+	@Test
+	public void testDirectBothOrders() throws IOException {
+		DirectFloatBuffer a = new DirectFloatBuffer(SIZE);
+		for (int i = 0; i < SIZE; ++i) {
+			a.put(i, value(i));
+		}
+		for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+			out.reset();
+			a.writeTo(Channels.newChannel(out), order);
+			checkBytes(order, SIZE);
+			DirectFloatBuffer b = new DirectFloatBuffer(SIZE);
+			b.readFrom(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), order);
+			assertEquals(value(SIZE - 1), b.get(SIZE - 1), 0f);
+			b.close();
+		}
+		a.close();
+	}
+
+	@Test
+	public void testMappedTransfer() throws IOException {
+		MappedFloatBuffer a = MappedFloatBuffer.create(file, SIZE);
+		for (int i = 0; i < SIZE; ++i) {
+			a.put(i, value(i));
+		}
+		a.writeTo(Channels.newChannel(out), a.getOrder());
+		checkBytes(a.getOrder(), SIZE);
+		a.clear();
+		a.readFrom(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), 
+				a.getOrder());
+		assertEquals(value(SIZE - 1), a.get(SIZE - 1), 0f);
+		a.close();
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * CopyOnWriteFloatBufferTests.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import us.rothmichaels.testing.async.AsyncTester;
+
+/**
+ * Tests {@link us.rothmichaels.concurrency.buffers.CopyOnWriteFloatBuffer}.
+ *
+ * @author Roth Michaels
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class CopyOnWriteFloatBufferTests {
+
+	static final int SIZE = 10;
+
+	CopyOnWriteFloatBuffer testBuffer;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		testBuffer = new CopyOnWriteFloatBuffer(SIZE);
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+	}
+
+	@Test
+	public void testWritePublishesOnUnlock() {
+		CopyOnWriteFloatBuffer.Snapshot before = testBuffer.snapshot();
+		testBuffer.writeLock().lock();
+		testBuffer.getDataRef()[1] = 1f;
+		assertSame(before, testBuffer.snapshot());
+		assertEquals(0f, testBuffer.get(1), 0f);
+		testBuffer.writeLock().unlock();
+		assertNotSame(before, testBuffer.snapshot());
+		assertEquals(1f, testBuffer.get(1), 0f);
+		assertEquals(0f, before.get(1), 0f);
+	}
+
+	@Test
+	public void testBatchedWrites() {
+		CopyOnWriteFloatBuffer.Snapshot before = testBuffer.snapshot();
+		testBuffer.write(data -> {
+			data[0] = 1f;
+			testBuffer.setSize(SIZE + 1);
+			testBuffer.getDataRef()[SIZE] = 2f;
+			assertSame(before, testBuffer.snapshot());
+		});
+		CopyOnWriteFloatBuffer.Snapshot after = testBuffer.snapshot();
+		assertEquals(SIZE + 1, after.getSize());
+		assertEquals(1f, after.get(0), 0f);
+		assertEquals(2f, after.get(SIZE), 0f);
+	}
+
+	@Test
+	public void testReadLockPinsSnapshot() throws InterruptedException {
+		testBuffer.readLock().lock();
+		final float[] pinned = testBuffer.getDataRef();
+		AsyncTester tester = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				testBuffer.writeLock().lock();
+				testBuffer.getDataRef()[0] = 1f;
+				testBuffer.setSize(2);
+				testBuffer.writeLock().unlock();
+			}
+		});
+		tester.runTest();
+		tester.verify();
+		assertSame(pinned, testBuffer.getDataRef());
+		assertEquals(SIZE, testBuffer.getSize());
+		assertEquals(0f, pinned[0], 0f);
+		testBuffer.readLock().unlock();
+		assertEquals(2, testBuffer.getSize());
+		assertEquals(1f, testBuffer.get(0), 0f);
+	}
+
+	@Test
+	public void testClear() {
+		testBuffer.writeLock().lock();
+		testBuffer.getDataRef()[3] = 3f;
+		testBuffer.writeLock().unlock();
+		float[] old = testBuffer.snapshot().toArray();
+		testBuffer.clear();
+		assertEquals(0f, testBuffer.get(3), 0f);
+		assertEquals(3f, old[3], 0f);
+	}
+
+	@Test
+	public void testShrinkAndGrowZeroes() {
+		testBuffer.write(data -> data[SIZE - 1] = 1f);
+		testBuffer.setSize(SIZE - 1);
+		testBuffer.setSize(SIZE);
+		assertEquals(0f, testBuffer.get(SIZE - 1), 0f);
+	}
+
+	@Test
+	public void testShrinkAndGrowPastCapacityZeroes() {
+		testBuffer.write(data -> Arrays.fill(data, 1f));
+		testBuffer.setSize(SIZE / 2);
+		testBuffer.setSize(2 * SIZE);
+		assertEquals(1f, testBuffer.get(SIZE / 2 - 1), 0f);
+		for (int i = SIZE / 2; i < 2 * SIZE; ++i) {
+			assertEquals(0f, testBuffer.get(i), 0f);
+		}
+	}
+
+	@Test(expected=ArrayIndexOutOfBoundsException.class)
+	public void testGetOutOfRange() {
+		testBuffer.setSize(SIZE - 1);
+		testBuffer.get(SIZE - 1);
+	}
+
+	@Test
+	public void testWritersExclude() throws InterruptedException {
+		testBuffer.writeLock().lock();
+		AsyncTester tester = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				assertFalse(testBuffer.writeLock().tryLock());
+				assertTrue(testBuffer.readLock().tryLock());
+				testBuffer.readLock().unlock();
+			}
+		});
+		tester.runTest();
+		tester.verify();
+		testBuffer.writeLock().unlock();
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * DirectFloatBufferTests.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link us.rothmichaels.concurrency.buffers.DirectFloatBuffer}
+ * and {@link us.rothmichaels.concurrency.buffers.DirectFloat2DBuffer}.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class DirectFloatBufferTests {
+
+	static final int SIZE = 10;
+	static final int DIM1 = 3;
+	
+	DirectFloatBuffer testBuffer;
+	
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		testBuffer = new DirectFloatBuffer(SIZE);
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		testBuffer.close();
+	}
+	
+	@Test
+	public void testConstruction() {
+		assertEquals(SIZE, testBuffer.getSize());
+		assertEquals(SIZE, testBuffer.getCapacity());
+		assertTrue(testBuffer.getDataRef().isDirect());
+		assertSame(java.nio.FloatBuffer.class, testBuffer.getDataClass());
+	}
+	
+	@Test
+	public void testZeroCopyView() {
+		testBuffer.writeLock().lock();
+		testBuffer.put(4, 2f);
+		assertEquals(2f, testBuffer.getDataRef().get(4), 0f);
+		assertEquals(2f, testBuffer.getByteBuffer().asFloatBuffer().get(4), 0f);
+		testBuffer.getDataRef().put(5, 3f);
+		assertEquals(3f, testBuffer.get(5), 0f);
+		testBuffer.writeLock().unlock();
+	}
+	
+	@Test
+	public void testBulkAccess() {
+		float[] src = { 1f, 2f, 3f, 4f };
+		float[] dst = new float[6];
+		testBuffer.writeLock().lock();
+		testBuffer.put(3, src, 1, 3);
+		testBuffer.get(2, dst, 1, 5);
+		testBuffer.writeLock().unlock();
+		assertArrayEquals(new float[] { 0f, 0f, 2f, 3f, 4f, 0f }, dst, 0f);
+	}
+	
+	@Test(expected=IndexOutOfBoundsException.class)
+	public void testBulkOutOfRange() {
+		testBuffer.get(SIZE - 2, new float[4], 0, 4);
+	}
+	
+	@Test
+	public void testBulkLengthOverflow() {
+		try {
+			testBuffer.put(1, new float[4], 0, Integer.MAX_VALUE);
+			fail("Range overflowed.");
+		} catch (IndexOutOfBoundsException e) {
+			assertTrue(e.getMessage().contains("size " + SIZE));
+		}
+	}
+	
+	@Test
+	public void testSetSize() {
+		testBuffer.writeLock().lock();
+		testBuffer.put(SIZE - 1, 9f);
+		testBuffer.writeLock().unlock();
+		
+		testBuffer.setSize(SIZE / 2);
+		assertEquals(SIZE / 2, testBuffer.getSize());
+		assertEquals(SIZE, testBuffer.getCapacity());
+		
+		testBuffer.setSize(2 * SIZE);
+		assertEquals(2 * SIZE, testBuffer.getSize());
+		assertEquals(2 * SIZE, testBuffer.getCapacity());
+		// regrown region is zeroed
+		assertEquals(0f, testBuffer.get(SIZE - 1), 0f);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testSetSizeNegative() {
+		testBuffer.setSize(-1);
+	}
+	
+	@Test
+	public void testClear() {
+		testBuffer.writeLock().lock();
+		for (int i = 0; i < SIZE; ++i) {
+			testBuffer.put(i, i);
+		}
+		testBuffer.writeLock().unlock();
+		testBuffer.clear();
+		for (int i = 0; i < SIZE; ++i) {
+			assertEquals(0f, testBuffer.get(i), 0f);
+		}
+	}
+	
+	@Test
+	public void testClose() {
+		testBuffer.close();
+		assertTrue(testBuffer.isClosed());
+		testBuffer.close();
+	}
+	
+	@Test(expected=IllegalStateException.class)
+	public void testUseAfterClose() {
+		testBuffer.close();
+		testBuffer.getDataRef();
+	}
+	
+	@Test
+	public void test2DRows() {
+		DirectFloat2DBuffer buffer2D = new DirectFloat2DBuffer(DIM1, SIZE);
+		buffer2D.writeLock().lock();
+		for (int j = 0; j < DIM1; ++j) {
+			for (int i = 0; i < SIZE; ++i) {
+				buffer2D.put(j, i, j + 1);
+			}
+		}
+		assertEquals(2f, buffer2D.row(1).get(SIZE - 1), 0f);
+		assertEquals(SIZE, buffer2D.row(2).remaining());
+		buffer2D.writeLock().unlock();
+		
+		buffer2D.clear(1);
+		for (int j = 0; j < DIM1; ++j) {
+			float expected = (j == 1) ? 0f : j + 1;
+			for (int i = 0; i < SIZE; ++i) {
+				assertEquals(expected, buffer2D.get(j, i), 0f);
+			}
+		}
+		
+		buffer2D.setSize(2 * SIZE);
+		assertEquals(0f, buffer2D.get(DIM1 - 1, 2 * SIZE - 1), 0f);
+		buffer2D.close();
+	}
+}
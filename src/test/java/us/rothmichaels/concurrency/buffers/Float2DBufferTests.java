@@ -148,6 +148,49 @@ public class Float2DBufferTests extends ArrayBufferTests {
 		
 	}
 
+	/**
+	 * @see us.rothmichaels.concurrency.buffers.ArrayBufferTests#testLazyClearZeroTo()
+	 */
+	@Override
+	@Test
+	public void testLazyClearZeroTo() {
+		float[][] buf = ((Float2DBuffer) testBuffer).getDataRef();
+		for (int j = 0; j < DIM1; ++j) {
+			for (int i = 0; i < SIZE1; ++i) {
+				buf[j][i] = 1f;
+			}
+		}
+		testBuffer.setLazyClear(true);
+		testBuffer.clear();
+		assertEquals(1f, buf[DIM1 - 1][SIZE1 - 1], 0f);
+		testBuffer.writeLock().lock();
+		testBuffer.zeroTo(SIZE2);
+		testBuffer.writeLock().unlock();
+		for (int j = 0; j < DIM1; ++j) {
+			for (int i = 0; i < SIZE1; ++i) {
+				assertEquals((i < SIZE2) ? 0f : 1f, buf[j][i], 0f);
+			}
+		}
+	}
+
+	@Test
+	public void testStripedLazyClearGetSet() {
+		Float2DBuffer buffer = new Float2DBuffer(2, 8, true);
+		buffer.fill(1f);
+		buffer.setLazyClear(true);
+		buffer.clear();
+		assertEquals(0f, buffer.get(0, 3), 0f);
+		buffer.set(0, 5, 7f);
+		assertEquals(6, buffer.getWatermark());
+		assertEquals(7f, buffer.get(0, 5), 0f);
+		assertEquals(0f, buffer.get(1, 3), 0f);
+		float[] dst = new float[8];
+		buffer.readInto(0, dst, 0, 0, 8);
+		assertArrayEquals(new float[] { 0f, 0f, 0f, 0f, 0f, 7f, 0f, 0f }, dst, 0f);
+		assertEquals(1f, buffer.getDataRef()[1][6], 0f);
+		assertEquals(0f, buffer.getDataRef()[1][4], 0f);
+	}
+
 	@Test
 	public void testClearRow() {
 		float[][] buf = ((Float2DBuffer) testBuffer).getDataRef();
@@ -168,4 +211,33 @@ public class Float2DBufferTests extends ArrayBufferTests {
 		}
 	}
 
+	@Test
+	public void testResizeKeepsContents() {
+		Float2DBuffer buffer = (Float2DBuffer) testBuffer;
+		buffer.fill(1f);
+		buffer.set(DIM1 - 1, DIM2 - 1, 2f);
+		float[] row0 = buffer.getDataRef()[0];
+		buffer.resize(DIM1 + 2, DIM2 - 1);
+		assertEquals(DIM1 + 2, buffer.getFirstDim());
+		assertEquals(DIM1 + 2, buffer.getDataRef().length);
+		assertSame("Row reallocated", row0, buffer.getDataRef()[0]);
+		assertEquals(1f, buffer.get(0, DIM2 - 2), 0f);
+		assertEquals(0f, buffer.get(DIM1 + 1, 0), 0f);
+		buffer.resize(DIM1, 4 * DIM2);
+		assertEquals(4 * DIM2, buffer.getSize());
+		assertEquals(1f, buffer.get(DIM1 - 1, DIM2 - 2), 0f);
+		assertEquals("Element exposed by growth", 0f, buffer.get(DIM1 - 1, DIM2 - 1), 0f);
+		assertEquals(0f, buffer.get(0, 4 * DIM2 - 1), 0f);
+		buffer.resize(1, 4 * DIM2);
+		assertEquals(1, buffer.getDataRef().length);
+		assertEquals(1f, buffer.get(0, 0), 0f);
+	}
+	
+	@Test(expected=ArrayIndexOutOfBoundsException.class)
+	public void testResizeRemovesRows() {
+		Float2DBuffer buffer = (Float2DBuffer) testBuffer;
+		buffer.resize(DIM1 - 1, DIM2);
+		buffer.get(DIM1 - 1, 0);
+	}
+
 }
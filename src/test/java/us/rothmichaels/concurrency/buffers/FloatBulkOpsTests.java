@@ -0,0 +1,283 @@
+/*
+ * FloatBulkOpsTests.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import us.rothmichaels.testing.async.AsyncTester;
+
+/**
+ * Tests the bulk operations of 
+ * {@link us.rothmichaels.concurrency.buffers.FloatBuffer} and 
+ * {@link us.rothmichaels.concurrency.buffers.Float2DBuffer}.
+ *
+ * @author Roth Michaels
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class FloatBulkOpsTests {
+
+	static final int SIZE = 37;
+	static final int DIM1 = 3;
+
+	FloatBuffer a;
+	FloatBuffer b;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		a = new FloatBuffer(SIZE);
+		b = new FloatBuffer(SIZE);
+		for (int i = 0; i < SIZE; ++i) {
+			a.getDataRef()[i] = i;
+			b.getDataRef()[i] = 2f;
+		}
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+	}
+
+	@Test
+	public void testFillAndScale() {
+		a.fill(3f);
+		a.scale(0.5f);
+		for (int i = 0; i < SIZE; ++i) {
+			assertEquals(1.5f, a.getDataRef()[i], 0f);
+		}
+	}
+
+	@Test
+	public void testAddMixMultiplyAccumulate() {
+		a.add(b);
+		assertEquals(SIZE + 1f, a.getDataRef()[SIZE - 1], 0f);
+		a.mix(b, -0.5f);
+		assertEquals(SIZE, a.getDataRef()[SIZE - 1], 0f);
+		a.multiplyAccumulate(b, b);
+		assertEquals(SIZE + 4f, a.getDataRef()[SIZE - 1], 0f);
+		a.add(a);
+		assertEquals(10f, a.getDataRef()[0], 0f);
+	}
+
+	@Test
+	public void testReductions() {
+		assertEquals(0f, a.min(), 0f);
+		assertEquals(SIZE - 1f, a.max(), 0f);
+		assertEquals(SIZE * (SIZE - 1) / 2f, a.sum(), 0f);
+	}
+
+	@Test
+	public void testReductionsSkipNaN() {
+		a.getDataRef()[1] = Float.NaN;
+		assertEquals(0f, a.min(), 0f);
+		assertEquals(SIZE - 1f, a.max(), 0f);
+	}
+
+	@Test
+	public void testEmptyReductions() {
+		FloatBuffer empty = new FloatBuffer(0);
+		assertEquals(Float.POSITIVE_INFINITY, empty.min(), 0f);
+		assertEquals(Float.NEGATIVE_INFINITY, empty.max(), 0f);
+	}
+
+	@Test
+	public void testLazyClearedSource() {
+		b.setLazyClear(true);
+		b.clear();
+		b.writeLock().lock();
+		b.getDataRef()[0] = 1f;
+		b.setWatermark(1);
+		b.writeLock().unlock();
+		a.add(b);
+		assertEquals(1f, a.getDataRef()[0], 0f);
+		assertEquals(1f, a.getDataRef()[1], 0f);
+		assertEquals(1f, b.sum(), 0f);
+		assertEquals(0f, b.min(), 0f);
+	}
+
+	@Test
+	public void testReadIntoWriteFrom() {
+		float[] tmp = new float[SIZE + 2];
+		a.readInto(tmp, 1, 2, SIZE - 1);
+		assertEquals(1f, tmp[2], 0f);
+		assertEquals(SIZE - 1f, tmp[SIZE], 0f);
+		b.writeFrom(tmp, 2, 0, 3);
+		assertEquals(3f, b.getDataRef()[2], 0f);
+		assertEquals(2f, b.getDataRef()[3], 0f);
+	}
+
+	@Test
+	public void testReadWriteLazy() {
+		a.setLazyClear(true);
+		a.clear();
+		float[] ones = { 1f, 1f };
+		a.writeFrom(ones, 0, 3, 2);
+		assertEquals(5, a.getWatermark());
+		float[] tmp = new float[SIZE];
+		a.readInto(tmp, 0, 0, SIZE);
+		assertEquals(0f, tmp[0], 0f);
+		assertEquals(1f, tmp[4], 0f);
+		assertEquals(0f, tmp[5], 0f);
+		assertEquals(2f, a.sum(), 0f);
+	}
+
+	@Test(expected=IndexOutOfBoundsException.class)
+	public void testReadIntoOutOfRange() {
+		a.readInto(new float[SIZE], 1, 0, SIZE);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testSourceTooSmall() {
+		a.add(new FloatBuffer(SIZE - 1));
+	}
+
+	@Test
+	public void testOppositeOrderNoDeadlock() throws InterruptedException {
+		AsyncTester tester = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				for (int i = 0; i < 10000; ++i) {
+					b.mix(a, 0f);
+				}
+			}
+		});
+		tester.runTest();
+		for (int i = 0; i < 10000; ++i) {
+			a.mix(b, 0f);
+		}
+		tester.verify();
+	}
+
+	@Test
+	public void test2D() {
+		Float2DBuffer x = new Float2DBuffer(DIM1, SIZE, true);
+		Float2DBuffer y = new Float2DBuffer(DIM1, SIZE);
+		x.fill(1f);
+		y.fill(2f);
+		x.mix(y, 2f);
+		assertEquals(5f, x.get(DIM1 - 1, SIZE - 1), 0f);
+		x.scale(1, 2f);
+		assertEquals(10f, x.max(), 0f);
+		assertEquals(5f, x.min(), 0f);
+		x.multiplyAccumulate(y, y);
+		x.add(y);
+		assertEquals(11f, x.get(0, 0), 0f);
+		assertEquals(DIM1 * SIZE * 11f + SIZE * 5f, x.sum(), 0f);
+	}
+
+	@Test
+	public void test2DRowCopy() throws InterruptedException {
+		final Float2DBuffer x = new Float2DBuffer(DIM1, SIZE, true);
+		x.setLazyClear(true);
+		x.clear();
+		x.writeFrom(1, new float[] { 4f, 5f }, 0, 0, 2);
+		x.rowLock(0).writeLock().lock();
+		AsyncTester tester = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				float[] tmp = new float[3];
+				x.writeFrom(1, new float[] { 6f }, 0, 1, 1);
+				x.readInto(1, tmp, 0, 0, 3);
+				assertEquals(4f, tmp[0], 0f);
+				assertEquals(6f, tmp[1], 0f);
+				assertEquals(0f, tmp[2], 0f);
+			}
+		});
+		tester.runTest();
+		tester.verify();
+		x.rowLock(0).writeLock().unlock();
+	}
+
+	@Test
+	public void testParallelMapReduce() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		Float2DBuffer x = new Float2DBuffer(DIM1, SIZE);
+		x.setLazyClear(true);
+		x.parallelMap(new FloatRangeOperator() {
+			@Override
+			public void apply(int row, float[] data, int from, int to) {
+				for (int i = from; i < to; ++i) {
+					data[i] = row * SIZE + i;
+				}
+			}
+		}, pool, 5);
+		int n = DIM1 * SIZE;
+		Double sum = x.parallelReduce(0.0, new FloatRangeFunction<Double>() {
+			@Override
+			public Double apply(int row, float[] data, int from, int to) {
+				double s = 0;
+				for (int i = from; i < to; ++i) {
+					s += data[i];
+				}
+				return s;
+			}
+		}, (p, q) -> p + q, pool, 4);
+		assertEquals(n * (n - 1) / 2.0, sum, 0.0);
+		
+		x.clear();
+		Float max = x.parallelReduce(Float.NEGATIVE_INFINITY, 
+				(row, data, from, to) -> FloatOps.max(data, from, to), Math::max);
+		assertEquals(0f, max, 0f);
+		pool.shutdown();
+	}
+
+	@Test
+	public void testParallelReduceOrder() {
+		Float2DBuffer x = new Float2DBuffer(2, 4);
+		String order = x.parallelReduce("", 
+				(row, data, from, to) -> row + ":" + from + " ", 
+				String::concat, ForkJoinPool.commonPool(), 2);
+		assertEquals("0:0 0:2 1:0 1:2 ", order);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void test2DMismatch() {
+		new Float2DBuffer(DIM1, SIZE).add(new Float2DBuffer(DIM1 + 1, SIZE));
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * MappedFloatBufferTests.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link us.rothmichaels.concurrency.buffers.MappedFloatBuffer}.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class MappedFloatBufferTests {
+
+	static final int SIZE = 16;
+	
+	Path file;
+	MappedFloatBuffer testBuffer;
+	
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		file = Files.createTempFile("mapped-float-buffer", ".buf");
+		testBuffer = MappedFloatBuffer.create(file, SIZE);
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		testBuffer.close();
+		Files.deleteIfExists(file);
+	}
+	
+	@Test
+	public void testHeader() throws IOException {
+		testBuffer.force();
+		ByteBuffer header = ByteBuffer.wrap(Files.readAllBytes(file));
+		assertEquals(MappedFloatBuffer.HEADER_BYTES + SIZE * 4, header.capacity());
+		assertEquals(MappedFloatBuffer.MAGIC, header.getInt());
+		assertEquals(MappedFloatBuffer.VERSION, header.getShort());
+		assertEquals(MappedFloatBuffer.TYPE_FLOAT, header.get());
+		assertEquals(ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? 0 : 1, header.get());
+		assertEquals(1, header.getInt());
+		assertEquals(SIZE, header.getInt());
+	}
+	
+	@Test
+	public void testReopen() throws IOException {
+		testBuffer.writeLock().lock();
+		for (int i = 0; i < SIZE; ++i) {
+			testBuffer.put(i, i);
+		}
+		testBuffer.writeLock().unlock();
+		testBuffer.setSize(SIZE - 1);
+		testBuffer.close();
+		
+		testBuffer = MappedFloatBuffer.open(file);
+		assertEquals(SIZE - 1, testBuffer.getSize());
+		assertEquals(SIZE, testBuffer.getCapacity());
+		for (int i = 0; i < SIZE - 1; ++i) {
+			assertEquals(i, testBuffer.get(i), 0f);
+		}
+	}
+	
+	@Test
+	public void testSharedMapping() throws IOException {
+		MappedFloatBuffer other = MappedFloatBuffer.open(file);
+		testBuffer.writeLock().lock();
+		testBuffer.put(3, 42f);
+		testBuffer.writeLock().unlock();
+		assertEquals(42f, other.get(3), 0f);
+		other.close();
+	}
+	
+	@Test
+	public void testSetSizeGrowsFile() throws IOException {
+		testBuffer.writeLock().lock();
+		testBuffer.put(SIZE - 1, 7f);
+		testBuffer.writeLock().unlock();
+		testBuffer.setSize(4 * SIZE);
+		assertEquals(4 * SIZE, testBuffer.getSize());
+		assertEquals(7f, testBuffer.get(SIZE - 1), 0f);
+		assertEquals(0f, testBuffer.get(4 * SIZE - 1), 0f);
+		testBuffer.force();
+		assertEquals(MappedFloatBuffer.HEADER_BYTES + 4 * SIZE * 4, Files.size(file));
+	}
+	
+	@Test(expected=IOException.class)
+	public void testOpenBadFile() throws IOException {
+		Path bad = Files.createTempFile("mapped-float-buffer", ".bad");
+		try {
+			Files.write(bad, new byte[MappedFloatBuffer.HEADER_BYTES]);
+			MappedFloatBuffer.open(bad);
+		} finally {
+			Files.deleteIfExists(bad);
+		}
+	}
+	
+	@Test(expected=IllegalStateException.class)
+	public void testForceAfterClose() {
+		testBuffer.close();
+		testBuffer.force();
+	}
+}
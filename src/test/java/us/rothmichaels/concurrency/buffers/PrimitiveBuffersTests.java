@@ -0,0 +1,160 @@
+/*
+ * PrimitiveBuffersTests.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the primitive {@link us.rothmichaels.concurrency.buffers.ArrayBuffer}
+ * and {@link us.rothmichaels.concurrency.buffers.Array2DBuffer} subclasses.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class PrimitiveBuffersTests {
+
+	static final int DIM1 = 3;
+	static final int SIZE = 10;
+	
+	List<ArrayBuffer<?>> buffers;
+	List<Array2DBuffer<?>> buffers2D;
+	
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		buffers = Arrays.<ArrayBuffer<?>>asList(
+				new FloatBuffer(SIZE), new DoubleBuffer(SIZE), 
+				new IntBuffer(SIZE), new LongBuffer(SIZE), 
+				new ShortBuffer(SIZE), new ByteArrayBuffer(SIZE));
+		buffers2D = Arrays.<Array2DBuffer<?>>asList(
+				new Float2DBuffer(DIM1, SIZE), new Double2DBuffer(DIM1, SIZE), 
+				new Int2DBuffer(DIM1, SIZE), new Long2DBuffer(DIM1, SIZE), 
+				new Short2DBuffer(DIM1, SIZE), new Byte2DBuffer(DIM1, SIZE));
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+	}
+	
+	static void set(Object array, int i, int value) {
+		Array.set(array, i, (byte) value);
+	}
+	
+	static int get(Object array, int i) {
+		return ((Number) Array.get(array, i)).intValue();
+	}
+	
+	@Test
+	public void testDataClass() {
+		Class<?>[] expected = { float[].class, double[].class, int[].class, 
+				long[].class, short[].class, byte[].class };
+		for (int i = 0; i < expected.length; ++i) {
+			assertSame(expected[i], buffers.get(i).getDataClass());
+			assertSame(expected[i], buffers2D.get(i).getDataClass().getComponentType());
+		}
+	}
+	
+	@Test
+	public void testSetSizeKeepsData() {
+		for (ArrayBuffer<?> buffer : buffers) {
+			set(buffer.getDataRef(), SIZE - 1, 7);
+			buffer.setSize(2 * SIZE);
+			assertEquals(2 * SIZE, buffer.getSize());
+			assertTrue(2 * SIZE <= Array.getLength(buffer.getDataRef()));
+			assertEquals(7, get(buffer.getDataRef(), SIZE - 1));
+		}
+	}
+	
+	@Test
+	public void testClear() {
+		for (ArrayBuffer<?> buffer : buffers) {
+			for (int i = 0; i < SIZE; ++i) {
+				set(buffer.getDataRef(), i, i);
+			}
+			buffer.clear();
+			for (int i = 0; i < SIZE; ++i) {
+				assertEquals(0, get(buffer.getDataRef(), i));
+			}
+		}
+	}
+	
+	@Test
+	public void test2DClearRow() {
+		for (Array2DBuffer<?> buffer : buffers2D) {
+			assertEquals(DIM1, buffer.getFirstDim());
+			Object rows = buffer.getDataRef();
+			for (int j = 0; j < DIM1; ++j) {
+				for (int i = 0; i < SIZE; ++i) {
+					set(Array.get(rows, j), i, 1);
+				}
+			}
+			buffer.clear(1);
+			for (int j = 0; j < DIM1; ++j) {
+				for (int i = 0; i < SIZE; ++i) {
+					assertEquals((j == 1) ? 0 : 1, get(Array.get(rows, j), i));
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void test2DSetSize() {
+		for (Array2DBuffer<?> buffer : buffers2D) {
+			buffer.setSize(2 * SIZE);
+			Object rows = buffer.getDataRef();
+			assertEquals(DIM1, Array.getLength(rows));
+			for (int j = 0; j < DIM1; ++j) {
+				assertTrue(2 * SIZE <= Array.getLength(Array.get(rows, j)));
+			}
+		}
+	}
+}
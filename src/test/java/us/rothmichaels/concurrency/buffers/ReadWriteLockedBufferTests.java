@@ -40,6 +40,13 @@ package us.rothmichaels.concurrency.buffers;
 import static org.junit.Assert.*;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.function.LongConsumer;
 
 import org.junit.After;
 import org.junit.Before;
@@ -162,6 +169,205 @@ public class ReadWriteLockedBufferTests {
 		testBuffer.setSize(-1);
 	}
 	
+	@Test
+	public void testReadLambda() {
+		testData[2] = 3f;
+		float value = testBuffer.read(data -> data[2]);
+		assertEquals(3f, value, 0f);
+		assertTrue(testBuffer.writeLock().tryLock());
+		testBuffer.writeLock().unlock();
+	}
+	
+	@Test
+	public void testWriteLambdaUnlocksOnThrow() {
+		try {
+			testBuffer.write(data -> { 
+				data[0] = 1f; 
+				throw new IllegalStateException(); 
+			});
+			fail("Exception not thrown.");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		assertEquals(1f, testData[0], 0f);
+		AsyncTester tester = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				assertTrue(testBuffer.readLock().tryLock());
+				testBuffer.readLock().unlock();
+			}
+		});
+		tester.runTest();
+		tester.verify();
+	}
+	
+	@Test
+	public void testVersionBumpedOnOutermostUnlock() {
+		assertEquals(0, testBuffer.getVersion());
+		testBuffer.writeLock().lock();
+		testBuffer.writeLock().lock();
+		testBuffer.writeLock().unlock();
+		assertEquals(0, testBuffer.getVersion());
+		testBuffer.writeLock().unlock();
+		assertEquals(1, testBuffer.getVersion());
+		testBuffer.readLock().lock();
+		testBuffer.readLock().unlock();
+		assertEquals(1, testBuffer.getVersion());
+	}
+	
+	@Test
+	public void testAwaitVersion() throws InterruptedException {
+		final long seen = testBuffer.getVersion();
+		AsyncTester tester = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					assertTrue(testBuffer.awaitVersion(seen, 5, TimeUnit.SECONDS) > seen);
+				} catch (InterruptedException e) {
+					fail("Interrupted.");
+				}
+			}
+		});
+		tester.runTest();
+		Thread.sleep(100);
+		testBuffer.writeLock().lock();
+		testBuffer.writeLock().unlock();
+		tester.verify();
+	}
+	
+	@Test
+	public void testAwaitVersionTimeout() throws InterruptedException {
+		long seen = testBuffer.getVersion();
+		assertEquals(seen, testBuffer.awaitVersion(seen, 10, TimeUnit.MILLISECONDS));
+	}
+	
+	@Test
+	public void testListenersCoalesced() {
+		final List<Runnable> pending = new ArrayList<Runnable>();
+		final List<Long> seen = new ArrayList<Long>();
+		Executor executor = new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				pending.add(command);
+			}
+		};
+		LongConsumer listener = new LongConsumer() {
+			@Override
+			public void accept(long version) {
+				seen.add(version);
+			}
+		};
+		testBuffer.addVersionListener(listener, executor);
+		for (int i = 0; i < 3; ++i) {
+			testBuffer.writeLock().lock();
+			testBuffer.writeLock().unlock();
+		}
+		assertEquals(1, pending.size());
+		pending.remove(0).run();
+		assertEquals(Long.valueOf(3), seen.get(0));
+		
+		assertTrue(testBuffer.removeVersionListener(listener));
+		testBuffer.writeLock().lock();
+		testBuffer.writeLock().unlock();
+		assertTrue(pending.isEmpty());
+	}
+	
+	@Test
+	public void testRejectedListener() {
+		Executor executor = new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				throw new RejectedExecutionException();
+			}
+		};
+		testBuffer.addVersionListener(new LongConsumer() {
+			@Override
+			public void accept(long version) {
+			}
+		}, executor);
+		testBuffer.writeLock().lock();
+		testBuffer.writeLock().unlock();
+		assertEquals(1, testBuffer.getVersion());
+		testBuffer.writeLock().lock();
+		testBuffer.writeLock().unlock();
+		assertEquals(2, testBuffer.getVersion());
+	}
+	
+	@Test
+	public void testUnlockFromOtherThread() throws InterruptedException {
+		testBuffer.writeLock().lock();
+		AsyncTester tester = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					testBuffer.writeLock().unlock();
+					fail("Unlocked by another thread.");
+				} catch (IllegalMonitorStateException e) {
+					// expected
+				}
+			}
+		});
+		tester.runTest();
+		tester.verify();
+		testBuffer.writeLock().unlock();
+		assertEquals(1, testBuffer.getVersion());
+	}
+	
+	@Test
+	public void testWriteLockCondition() throws InterruptedException {
+		final Condition condition = testBuffer.writeLock().newCondition();
+		final AtomicBoolean waiting = new AtomicBoolean();
+		final AtomicBoolean signalled = new AtomicBoolean();
+		Thread waiter = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				testBuffer.writeLock().lock();
+				testBuffer.writeLock().lock();
+				waiting.set(true);
+				while (!signalled.get()) {
+					condition.awaitUninterruptibly();
+				}
+				testBuffer.writeLock().unlock();
+				testBuffer.writeLock().unlock();
+			}
+		});
+		waiter.start();
+		while (!waiting.get()) {
+			Thread.yield();
+		}
+		testBuffer.writeLock().lock();
+		signalled.set(true);
+		condition.signal();
+		testBuffer.writeLock().unlock();
+		waiter.join(1000);
+		assertFalse(waiter.isAlive());
+		assertEquals(2, testBuffer.getVersion());
+		assertTrue(testBuffer.writeLock().tryLock());
+		testBuffer.writeLock().unlock();
+	}
+	
+	@Test(expected=IllegalMonitorStateException.class)
+	public void testConditionNotHeld() throws InterruptedException {
+		testBuffer.writeLock().newCondition().await();
+	}
+	
+	@Test
+	public void testRowWriteBumpsVersion() {
+		Float2DBuffer striped = new Float2DBuffer(2, SIZE, true);
+		striped.rowLock(1).writeLock().lock();
+		striped.rowLock(1).writeLock().unlock();
+		assertEquals(1, striped.getVersion());
+		striped.clear(0);
+		assertEquals(2, striped.getVersion());
+	}
+	
+	@Test
+	public void testSizeBackToInitial() {
+		testBuffer.setSize(3);
+		testBuffer.setSize(SIZE);
+		assertEquals(SIZE, testBuffer.getSize());
+	}
+	
 	@Test(expected=IllegalArgumentException.class)
 	public void testSizeTooBig() {
 		testBuffer.setSize(SIZE+1);
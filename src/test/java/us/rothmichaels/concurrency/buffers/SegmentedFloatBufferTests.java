@@ -0,0 +1,201 @@
+/*
+ * SegmentedFloatBufferTests.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import us.rothmichaels.testing.async.AsyncTester;
+
+/**
+ * Tests {@link us.rothmichaels.concurrency.buffers.SegmentedFloatBuffer}.
+ *
+ * @author Roth Michaels
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class SegmentedFloatBufferTests {
+
+	static final int CHUNK = 16;
+	static final long SIZE = 5 * CHUNK + 3;
+
+	SegmentedFloatBuffer testBuffer;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		testBuffer = new SegmentedFloatBuffer(SIZE, CHUNK);
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+	}
+
+	@Test
+	public void testChunksAllocatedOnWrite() {
+		assertEquals(6, testBuffer.getChunkCount());
+		assertEquals(0, testBuffer.getAllocatedChunkCount());
+		assertEquals(0f, testBuffer.get(SIZE - 1), 0f);
+		assertEquals(0, testBuffer.getAllocatedChunkCount());
+		testBuffer.set(2 * CHUNK + 1, 3f);
+		assertEquals(1, testBuffer.getAllocatedChunkCount());
+		assertEquals(3f, testBuffer.get(2 * CHUNK + 1), 0f);
+		assertEquals(0f, testBuffer.get(2 * CHUNK), 0f);
+	}
+
+	@Test
+	public void testBeyondIntRange() {
+		long size = 3L << 30;
+		SegmentedFloatBuffer big = new SegmentedFloatBuffer(size);
+		big.set(size - 1, 7f);
+		assertEquals(7f, big.get(size - 1), 0f);
+		assertEquals(0f, big.get(1L << 31), 0f);
+		assertEquals(1, big.getAllocatedChunkCount());
+	}
+
+	@Test(expected=IndexOutOfBoundsException.class)
+	public void testGetOutOfRange() {
+		testBuffer.get(SIZE);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testChunkSizeNotPowerOfTwo() {
+		new SegmentedFloatBuffer(SIZE, 12);
+	}
+
+	@Test
+	public void testCopyAcrossChunks() {
+		float[] src = new float[3 * CHUNK];
+		for (int i = 0; i < src.length; ++i) {
+			src[i] = i;
+		}
+		testBuffer.writeFrom(src, 1, CHUNK - 5, src.length - 1);
+		float[] dst = new float[src.length + 2];
+		testBuffer.readInto(dst, CHUNK - 5, 2, src.length - 1);
+		for (int i = 1; i < src.length; ++i) {
+			assertEquals(src[i], dst[i + 1], 0f);
+		}
+		assertEquals(4, testBuffer.getAllocatedChunkCount());
+	}
+
+	@Test
+	public void testChunkAlignedReduce() {
+		testBuffer.fill(1f);
+		final int[] calls = new int[1];
+		double sum = testBuffer.reduce(3, SIZE, 0.0, (chunk, data, from, to) -> {
+			++calls[0];
+			assertTrue(to <= CHUNK);
+			return (double) (to - from) * data[from];
+		}, Double::sum);
+		assertEquals(SIZE - 3, sum, 0.0);
+		assertEquals(6, calls[0]);
+	}
+
+	@Test
+	public void testUnwrittenChunkNotShared() {
+		testBuffer.reduce(0, SIZE, null, (chunk, data, from, to) -> {
+			data[from] = 5f;
+			return null;
+		}, (a, b) -> null);
+		float sum = testBuffer.reduce(0, SIZE, 0f, (chunk, data, from, to) -> {
+			float s = 0f;
+			for (int i = from; i < to; ++i) {
+				s += data[i];
+			}
+			return s;
+		}, Float::sum);
+		assertEquals(0f, sum, 0f);
+		assertEquals(0, testBuffer.getAllocatedChunkCount());
+	}
+
+	@Test
+	public void testSetSize() {
+		testBuffer.fill(2f);
+		testBuffer.setSize(CHUNK + 4);
+		assertEquals(2, testBuffer.getAllocatedChunkCount());
+		testBuffer.setSize(SIZE);
+		assertEquals(2f, testBuffer.get(CHUNK + 3), 0f);
+		assertEquals(0f, testBuffer.get(CHUNK + 4), 0f);
+		assertEquals(0f, testBuffer.get(SIZE - 1), 0f);
+		testBuffer.clear();
+		assertEquals(0f, testBuffer.get(0), 0f);
+		assertEquals(2, testBuffer.getAllocatedChunkCount());
+	}
+
+	@Test
+	public void testWritersToDifferentChunksRunInParallel() throws InterruptedException {
+		final CountDownLatch holding = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		Thread writer = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				testBuffer.update(0, CHUNK, (chunk, data, from, to) -> {
+					holding.countDown();
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				});
+			}
+		});
+		writer.start();
+		holding.await();
+		AsyncTester tester = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				testBuffer.set(CHUNK, 1f);
+				assertEquals(1f, testBuffer.get(CHUNK), 0f);
+			}
+		});
+		tester.runTest();
+		tester.verify();
+		release.countDown();
+		writer.join();
+	}
+}
@@ -0,0 +1,201 @@
+/*
+ * SequencedRingBufferTests.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import static org.junit.Assert.*;
+
+import java.util.function.Supplier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import us.rothmichaels.testing.async.AsyncTester;
+
+/**
+ * Tests {@link us.rothmichaels.concurrency.buffers.SequencedRingBuffer}.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class SequencedRingBufferTests {
+
+	static final int SIZE = 8;
+	
+	SequencedRingBuffer<long[]> testRing;
+	
+	static final Supplier<long[]> FACTORY = new Supplier<long[]>() {
+		@Override
+		public long[] get() {
+			return new long[1];
+		}
+	};
+	
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		testRing = new SequencedRingBuffer<long[]>(FACTORY, SIZE, new YieldingWaitStrategy());
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testSizeNotPowerOfTwo() {
+		new SequencedRingBuffer<long[]>(FACTORY, 6, new BusySpinWaitStrategy());
+	}
+	
+	@Test
+	public void testClaimAndPublish() throws InterruptedException {
+		long seq = testRing.next();
+		assertEquals(0L, seq);
+		assertFalse(testRing.isAvailable(seq));
+		assertEquals(-1L, testRing.getHighestPublished(0));
+		testRing.get(seq)[0] = 42L;
+		testRing.publish(seq);
+		assertTrue(testRing.isAvailable(seq));
+		assertEquals(0L, testRing.waitFor(0));
+		assertEquals(42L, testRing.get(0)[0]);
+	}
+	
+	@Test
+	public void testBatchPublishOutOfOrder() throws InterruptedException {
+		long first = testRing.next(2);
+		long second = testRing.next(3);
+		assertEquals(1L, first);
+		assertEquals(4L, second);
+		testRing.publish(2, 4);
+		// sequence 0 is not published yet
+		assertEquals(-1L, testRing.getHighestPublished(0));
+		testRing.publish(0, 1);
+		assertEquals(4L, testRing.waitFor(0));
+	}
+	
+	@Test
+	public void testGating() {
+		Sequence consumer = new Sequence();
+		testRing.addGatingSequences(consumer);
+		assertEquals(SIZE, testRing.remainingCapacity());
+		long hi = testRing.next(SIZE);
+		testRing.publish(0, hi);
+		assertEquals(0L, testRing.remainingCapacity());
+		assertEquals(-1L, testRing.tryNext(1));
+		
+		consumer.setOrdered(2);
+		assertEquals(3L, testRing.remainingCapacity());
+		assertEquals(SIZE + 2, testRing.tryNext(3));
+		
+		assertTrue(testRing.removeGatingSequence(consumer));
+		assertFalse(testRing.removeGatingSequence(consumer));
+	}
+	
+	@Test
+	public void testWaitForInterrupted() {
+		Thread.currentThread().interrupt();
+		try {
+			testRing.waitFor(0);
+			fail("Expected interrupt.");
+		} catch (InterruptedException e) {
+			// expected
+		}
+	}
+	
+	@Test
+	public void testMultipleProducersAndConsumers() {
+		final int producers = 2;
+		final int perProducer = 2000;
+		final long total = (long) producers * perProducer;
+		final long expectedSum = producers * ((long) perProducer * (perProducer - 1) / 2);
+		
+		AsyncTester[] consumers = new AsyncTester[2];
+		for (int c = 0; c < consumers.length; ++c) {
+			final Sequence consumed = new Sequence();
+			testRing.addGatingSequences(consumed);
+			consumers[c] = new AsyncTester(new Runnable() {
+				@Override
+				public void run() {
+					long sum = 0;
+					long next = consumed.get() + 1;
+					try {
+						while (next < total) {
+							long available = testRing.waitFor(next);
+							for (; next <= available; ++next) {
+								sum += testRing.get(next)[0];
+							}
+							consumed.setOrdered(available);
+						}
+					} catch (InterruptedException e) {
+						fail(e.toString());
+					}
+					assertEquals(expectedSum, sum);
+				}
+			});
+			consumers[c].runTest();
+		}
+		
+		AsyncTester[] producerTesters = new AsyncTester[producers];
+		for (int p = 0; p < producers; ++p) {
+			producerTesters[p] = new AsyncTester(new Runnable() {
+				@Override
+				public void run() {
+					for (int i = 0; i < perProducer; i += 2) {
+						long hi = testRing.next(2);
+						testRing.get(hi - 1)[0] = i;
+						testRing.get(hi)[0] = i + 1;
+						testRing.publish(hi - 1, hi);
+					}
+				}
+			});
+			producerTesters[p].runTest();
+		}
+		
+		for (AsyncTester producer : producerTesters) {
+			producer.verify();
+		}
+		for (AsyncTester consumer : consumers) {
+			consumer.verify();
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * SpscFloatRingBufferTests.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import us.rothmichaels.testing.async.AsyncTester;
+
+/**
+ * Tests {@link us.rothmichaels.concurrency.buffers.SpscFloatRingBuffer}.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class SpscFloatRingBufferTests {
+
+	static final int CAPACITY = 16;
+	
+	SpscFloatRingBuffer testBuffer;
+	
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		testBuffer = new SpscFloatRingBuffer(CAPACITY);
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+	}
+	
+	static float[] range(int from, int length) {
+		float[] values = new float[length];
+		for (int i = 0; i < length; ++i) {
+			values[i] = from + i;
+		}
+		return values;
+	}
+	
+	@Test
+	public void testCapacityRoundedUp() {
+		assertEquals(CAPACITY, testBuffer.capacity());
+		assertEquals(32, new SpscFloatRingBuffer(CAPACITY + 1).capacity());
+		assertEquals(1, new SpscFloatRingBuffer(1).capacity());
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testBadCapacity() {
+		new SpscFloatRingBuffer(0);
+	}
+	
+	@Test
+	public void testWriteRead() {
+		assertEquals(0, testBuffer.available());
+		assertEquals(CAPACITY, testBuffer.remaining());
+		assertEquals(5, testBuffer.write(range(0, 5), 0, 5));
+		assertEquals(5, testBuffer.available());
+		assertEquals(CAPACITY - 5, testBuffer.remaining());
+		
+		float[] dst = new float[8];
+		assertEquals(5, testBuffer.read(dst, 1, 7));
+		assertArrayEquals(new float[] { 0f, 0f, 1f, 2f, 3f, 4f, 0f, 0f }, dst, 0f);
+		assertEquals(0, testBuffer.available());
+		assertEquals(0, testBuffer.read(dst, 0, 8));
+	}
+	
+	@Test
+	public void testFull() {
+		assertEquals(CAPACITY, testBuffer.write(range(0, CAPACITY + 4), 0, CAPACITY + 4));
+		assertEquals(0, testBuffer.remaining());
+		assertEquals(0, testBuffer.write(range(0, 1), 0, 1));
+	}
+	
+	@Test
+	public void testWrapAround() {
+		float[] dst = new float[CAPACITY];
+		for (int round = 0; round < 5; ++round) {
+			int start = round * 11;
+			assertEquals(11, testBuffer.write(range(start, 11), 0, 11));
+			assertEquals(11, testBuffer.read(dst, 0, 11));
+			for (int i = 0; i < 11; ++i) {
+				assertEquals(start + i, dst[i], 0f);
+			}
+		}
+	}
+	
+	@Test
+	public void testProducerConsumer() {
+		final int total = 1 << 16;
+		AsyncTester producer = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				float[] block = new float[7];
+				int next = 0;
+				while (next < total) {
+					int n = Math.min(block.length, total - next);
+					for (int i = 0; i < n; ++i) {
+						block[i] = next + i;
+					}
+					int off = 0;
+					while (off < n) {
+						int written = testBuffer.write(block, off, n - off);
+						if (written == 0) {
+							Thread.yield();
+						}
+						off += written;
+					}
+					next += n;
+				}
+			}
+		});
+		producer.runTest();
+		
+		float[] block = new float[5];
+		int expected = 0;
+		while (expected < total) {
+			int n = testBuffer.read(block, 0, block.length);
+			if (n == 0) {
+				Thread.yield();
+			}
+			for (int i = 0; i < n; ++i) {
+				assertEquals(expected++, block[i], 0f);
+			}
+		}
+		producer.verify();
+	}
+}
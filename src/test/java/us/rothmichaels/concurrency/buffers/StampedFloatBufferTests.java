@@ -0,0 +1,187 @@
+/*
+ * StampedFloatBufferTests.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import us.rothmichaels.testing.async.AsyncTester;
+
+/**
+ * Tests {@link us.rothmichaels.concurrency.buffers.StampedFloatBuffer}.
+ *
+ * @author Roth Michaels
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class StampedFloatBufferTests {
+
+	static final int SIZE = 10;
+
+	StampedFloatBuffer testBuffer;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		testBuffer = new StampedFloatBuffer(SIZE);
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+	}
+
+	@Test
+	public void testOptimisticRead() {
+		long stamp = testBuffer.tryOptimisticRead();
+		assertTrue(stamp != 0);
+		assertEquals(0f, testBuffer.getDataRef()[3], 0f);
+		assertTrue(testBuffer.validate(stamp));
+	}
+
+	@Test
+	public void testWriteInvalidatesStamp() {
+		long stamp = testBuffer.tryOptimisticRead();
+		testBuffer.writeLock().lock();
+		assertEquals(0L, testBuffer.tryOptimisticRead());
+		testBuffer.getDataRef()[3] = 1f;
+		testBuffer.writeLock().unlock();
+		assertFalse(testBuffer.validate(stamp));
+	}
+
+	@Test
+	public void testReadLockKeepsStampValid() {
+		long stamp = testBuffer.tryOptimisticRead();
+		testBuffer.readLock().lock();
+		testBuffer.readLock().unlock();
+		assertTrue(testBuffer.validate(stamp));
+	}
+
+	@Test
+	public void testGet() {
+		testBuffer.writeLock().lock();
+		testBuffer.getDataRef()[5] = 5f;
+		testBuffer.writeLock().unlock();
+		assertEquals(5f, testBuffer.get(5), 0f);
+	}
+
+	@Test(expected=ArrayIndexOutOfBoundsException.class)
+	public void testGetOutOfRange() {
+		testBuffer.setSize(SIZE-1);
+		testBuffer.get(SIZE-1);
+	}
+
+	@Test
+	public void testGetWhileWriteLocked() throws InterruptedException {
+		testBuffer.writeLock().lock();
+		AsyncTester tester = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				assertEquals(7f, testBuffer.get(2), 0f);
+			}
+		});
+		tester.runTest();
+		Thread.sleep(200);
+		testBuffer.getDataRef()[2] = 7f;
+		testBuffer.writeLock().unlock();
+		tester.verify();
+	}
+
+	@Test
+	public void testCantReadWhenWriting() {
+		AsyncTester tester = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				assertFalse(testBuffer.readLock().tryLock());
+			}
+		});
+
+		testBuffer.writeLock().lock();
+		tester.runTest();
+		tester.verify();
+		testBuffer.writeLock().unlock();
+	}
+
+	@Test
+	public void testSetSizeAndClear() {
+		testBuffer.setSize(2 * SIZE);
+		assertEquals(2 * SIZE, testBuffer.getSize());
+		testBuffer.clear();
+		assertEquals(0f, testBuffer.get(2 * SIZE - 1), 0f);
+	}
+
+	@Test
+	public void test2DOptimisticRead() {
+		StampedFloat2DBuffer buffer2D = new StampedFloat2DBuffer(2, SIZE);
+		buffer2D.writeLock().lock();
+		buffer2D.getDataRef()[1][4] = 3f;
+		buffer2D.writeLock().unlock();
+		assertEquals(3f, buffer2D.get(1, 4), 0f);
+		buffer2D.setSize(SIZE + 1);
+		assertEquals(0f, buffer2D.get(1, SIZE), 0f);
+	}
+
+	@Test
+	public void testGetPastWatermark() {
+		testBuffer.writeLock().lock();
+		testBuffer.getDataRef()[3] = 5f;
+		testBuffer.writeLock().unlock();
+		testBuffer.setLazyClear(true);
+		testBuffer.clear();
+		assertEquals(0f, testBuffer.get(3), 0f);
+		float[] dst = new float[1];
+		testBuffer.readInto(dst, 3, 0, 1);
+		assertEquals(0f, dst[0], 0f);
+	}
+
+	@Test
+	public void test2DGetPastWatermark() {
+		StampedFloat2DBuffer buffer2D = new StampedFloat2DBuffer(2, SIZE);
+		buffer2D.fill(5f);
+		buffer2D.setLazyClear(true);
+		buffer2D.clear();
+		assertEquals(0f, buffer2D.get(1, 3), 0f);
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * StridedFloat2DBufferTests.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link us.rothmichaels.concurrency.buffers.StridedFloat2DBuffer}.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class StridedFloat2DBufferTests {
+
+	static final int DIM1 = 4;
+	static final int DIM2 = 10;
+	
+	StridedFloat2DBuffer testBuffer;
+	
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		testBuffer = new StridedFloat2DBuffer(DIM1, DIM2);
+		testBuffer.writeLock().lock();
+		for (int j = 0; j < DIM1; ++j) {
+			for (int i = 0; i < DIM2; ++i) {
+				testBuffer.set(j, i, j * DIM2 + i);
+			}
+		}
+		testBuffer.writeLock().unlock();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+	}
+	
+	@Test
+	public void testConstruction() {
+		assertEquals(DIM2, testBuffer.getSize());
+		assertEquals(DIM2, testBuffer.getStride());
+		assertEquals(DIM1, testBuffer.getFirstDim());
+		assertTrue(DIM1 * DIM2 <= testBuffer.getDataRef().length);
+	}
+	
+	@Test
+	public void testRowMajorLayout() {
+		float[] data = testBuffer.getDataRef();
+		for (int j = 0; j < DIM1; ++j) {
+			for (int i = 0; i < DIM2; ++i) {
+				assertEquals(j * DIM2 + i, data[testBuffer.index(j, i)], 0f);
+				assertEquals(j * DIM2 + i, testBuffer.get(j, i), 0f);
+			}
+		}
+	}
+	
+	@Test
+	public void testRowAccess() {
+		float[] row = new float[DIM2 + 1];
+		testBuffer.readRow(2, row, 1);
+		for (int i = 0; i < DIM2; ++i) {
+			assertEquals(2 * DIM2 + i, row[i + 1], 0f);
+		}
+		
+		testBuffer.writeRow(0, row, 1);
+		assertEquals(2 * DIM2 + 3, testBuffer.get(0, 3), 0f);
+	}
+	
+	@Test
+	public void testColumnAccess() {
+		float[] column = new float[DIM1];
+		testBuffer.readColumn(5, column, 0);
+		for (int j = 0; j < DIM1; ++j) {
+			assertEquals(j * DIM2 + 5, column[j], 0f);
+		}
+		
+		testBuffer.writeColumn(0, new float[] { -1f, -2f, -3f, -4f }, 0);
+		for (int j = 0; j < DIM1; ++j) {
+			assertEquals(-(j + 1), testBuffer.get(j, 0), 0f);
+		}
+	}
+	
+	@Test(expected=ArrayIndexOutOfBoundsException.class)
+	public void testColumnOutOfRange() {
+		testBuffer.readColumn(DIM2, new float[DIM1], 0);
+	}
+	
+	@Test
+	public void testClearRow() {
+		testBuffer.clear(1);
+		for (int j = 0; j < DIM1; ++j) {
+			for (int i = 0; i < DIM2; ++i) {
+				float expected = (j == 1) ? 0f : j * DIM2 + i;
+				assertEquals(expected, testBuffer.get(j, i), 0f);
+			}
+		}
+	}
+	
+	@Test
+	public void testClear() {
+		testBuffer.clear();
+		for (float value : testBuffer.getDataRef()) {
+			assertEquals(0f, value, 0f);
+		}
+	}
+	
+	@Test
+	public void testSetSize() {
+		float[] data = testBuffer.getDataRef();
+		testBuffer.setSize(DIM2 / 2);
+		assertEquals(DIM2 / 2, testBuffer.getSize());
+		assertEquals(DIM2 / 2, testBuffer.getStride());
+		assertSame(data, testBuffer.getDataRef());
+		assertEquals(0f, testBuffer.get(DIM1 - 1, DIM2 / 2 - 1), 0f);
+		
+		testBuffer.setSize(2 * DIM2);
+		assertEquals(2 * DIM2, testBuffer.getStride());
+		assertTrue(DIM1 * 2 * DIM2 <= testBuffer.getDataRef().length);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testSetSizeNegative() {
+		testBuffer.setSize(-1);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testTooLarge() {
+		new StridedFloat2DBuffer(1 << 16, 1 << 16);
+	}
+	
+	@Test
+	public void testSetSizeTooLarge() {
+		try {
+			testBuffer.setSize(Integer.MAX_VALUE / 2);
+			fail("Size overflowed.");
+		} catch (IllegalArgumentException e) {
+			assertEquals(DIM2, testBuffer.getSize());
+		}
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * StripedFloat2DBufferTests.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.locks.Lock;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import us.rothmichaels.testing.async.AsyncTester;
+
+/**
+ * Tests {@link us.rothmichaels.concurrency.buffers.Float2DBuffer} 
+ * with per row locks.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class StripedFloat2DBufferTests extends Float2DBufferTests {
+
+	Float2DBuffer striped;
+	
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		striped = new Float2DBuffer(DIM1, DIM2, true);
+		testBuffer = striped;
+	}
+	
+	AsyncTester makeTryLockTester(final Lock lock, final boolean expected) {
+		return new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				boolean locked = lock.tryLock();
+				if (locked) {
+					lock.unlock();
+				}
+				assertEquals(expected, locked);
+			}
+		});
+	}
+	
+	@Test
+	public void testRowLocksIndependent() throws InterruptedException {
+		assertTrue(striped.isStriped());
+		striped.rowLock(0).writeLock().lock();
+		AsyncTester tester = makeTryLockTester(striped.rowLock(1).writeLock(), true);
+		tester.runTest();
+		tester.verify();
+		striped.rowLock(0).writeLock().unlock();
+	}
+	
+	@Test
+	public void testRowLockBlocksBufferLock() throws InterruptedException {
+		striped.rowLock(2).writeLock().lock();
+		AsyncTester tester = makeTryLockTester(striped.writeLock(), false);
+		tester.runTest();
+		tester.verify();
+		tester = makeTryLockTester(striped.readLock(), false);
+		tester.runTest();
+		tester.verify();
+		striped.rowLock(2).writeLock().unlock();
+	}
+	
+	@Test
+	public void testBufferLockBlocksRowLocks() throws InterruptedException {
+		striped.writeLock().lock();
+		for (int i = 0; i < DIM1; ++i) {
+			AsyncTester tester = makeTryLockTester(striped.rowLock(i).readLock(), false);
+			tester.runTest();
+			tester.verify();
+		}
+		striped.writeLock().unlock();
+	}
+	
+	@Test
+	public void testClearRowWhileOtherRowLocked() throws InterruptedException {
+		striped.set(3, 0, 1f);
+		striped.set(1, 0, 1f);
+		striped.rowLock(1).writeLock().lock();
+		AsyncTester tester = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				striped.clear(3);
+				assertEquals(0f, striped.get(3, 0), 0f);
+			}
+		});
+		tester.runTest();
+		tester.verify();
+		striped.rowLock(1).writeLock().unlock();
+		assertEquals(1f, striped.get(1, 0), 0f);
+	}
+	
+	@Test(expected=ArrayIndexOutOfBoundsException.class)
+	public void testGetOutOfRange() {
+		striped.get(0, DIM2);
+	}
+	
+	@Test(expected=ArrayIndexOutOfBoundsException.class)
+	public void testBadRowLock() {
+		new Float2DBuffer(DIM1, DIM2).rowLock(DIM1);
+	}
+
+	@Test
+	public void testResizeSharesStripes() throws InterruptedException {
+		striped.resize(2 * DIM1, DIM2);
+		assertSame(striped.rowLock(1), striped.rowLock(DIM1 + 1));
+		striped.rowLock(DIM1 + 1).writeLock().lock();
+		AsyncTester tester = makeTryLockTester(striped.rowLock(DIM1).writeLock(), true);
+		tester.runTest();
+		tester.verify();
+		striped.rowLock(DIM1 + 1).writeLock().unlock();
+	}
+}
@@ -0,0 +1,220 @@
+/*
+ * TripleBufferedFloatBufferTests.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.buffers;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import us.rothmichaels.testing.async.AsyncTester;
+
+/**
+ * Tests {@link us.rothmichaels.concurrency.buffers.TripleBufferedFloatBuffer}.
+ *
+ * @author Roth Michaels 
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class TripleBufferedFloatBufferTests {
+
+	static final int SIZE = 64;
+	
+	TripleBufferedFloatBuffer testBuffer;
+	
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		testBuffer = new TripleBufferedFloatBuffer(SIZE);
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+	}
+	
+	void writeFrame(float value) {
+		testBuffer.writeLock().lock();
+		float[] data = testBuffer.getDataRef();
+		for (int i = 0, end = testBuffer.getSize(); i < end; ++i) {
+			data[i] = value;
+		}
+		testBuffer.writeLock().unlock();
+	}
+	
+	@Test
+	public void testConstruction() {
+		assertEquals(SIZE, testBuffer.getSize());
+		assertTrue(SIZE <= testBuffer.getDataRef().length);
+		assertEquals(TripleBufferedFloatBuffer.DEFAULT_FRAMES, testBuffer.getFrameCount());
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testTooFewFrames() {
+		new TripleBufferedFloatBuffer(SIZE, 1);
+	}
+	
+	@Test
+	public void testWriterDoesNotWaitForReader() {
+		writeFrame(1f);
+		testBuffer.readLock().lock();
+		AsyncTester tester = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				assertTrue(testBuffer.writeLock().tryLock());
+				testBuffer.getDataRef()[0] = 2f;
+				testBuffer.writeLock().unlock();
+			}
+		});
+		tester.runTest();
+		tester.verify();
+		
+		// the reader keeps its frame until it unlocks
+		assertEquals(1f, testBuffer.getDataRef()[0], 0f);
+		testBuffer.readLock().unlock();
+		
+		testBuffer.readLock().lock();
+		assertEquals(2f, testBuffer.getDataRef()[0], 0f);
+		assertEquals(1f, testBuffer.getDataRef()[1], 0f);
+		testBuffer.readLock().unlock();
+	}
+	
+	@Test
+	public void testOneWriter() {
+		AsyncTester tester = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				assertFalse(testBuffer.writeLock().tryLock());
+			}
+		});
+		
+		testBuffer.writeLock().lock();
+		tester.runTest();
+		tester.verify();
+		testBuffer.writeLock().unlock();
+	}
+	
+	@Test
+	public void testPinnedFramesGrowPool() throws InterruptedException {
+		AsyncTester[] readers = new AsyncTester[3];
+		final CountDownLatch release = new CountDownLatch(1);
+		for (int i = 0; i < readers.length; ++i) {
+			final float expected = i;
+			final CountDownLatch pinned = new CountDownLatch(1);
+			writeFrame(expected);
+			readers[i] = new AsyncTester(new Runnable() {
+				@Override
+				public void run() {
+					testBuffer.readLock().lock();
+					pinned.countDown();
+					assertEquals(expected, testBuffer.getDataRef()[0], 0f);
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						fail(e.toString());
+					}
+					assertEquals(expected, testBuffer.getDataRef()[SIZE-1], 0f);
+					testBuffer.readLock().unlock();
+				}
+			});
+			readers[i].runTest();
+			pinned.await();
+		}
+		writeFrame(10f);
+		assertTrue(testBuffer.getFrameCount() > TripleBufferedFloatBuffer.DEFAULT_FRAMES);
+		release.countDown();
+		for (AsyncTester reader : readers) {
+			reader.verify();
+		}
+	}
+	
+	@Test
+	public void testNoTornFrames() throws InterruptedException {
+		final int frames = 2000;
+		final AtomicBoolean running = new AtomicBoolean(true);
+		AsyncTester reader = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				while (running.get()) {
+					testBuffer.readLock().lock();
+					float[] data = testBuffer.getDataRef();
+					float first = data[0];
+					for (int i = 1, end = testBuffer.getSize(); i < end; ++i) {
+						assertEquals(first, data[i], 0f);
+					}
+					testBuffer.readLock().unlock();
+				}
+			}
+		});
+		reader.runTest();
+		for (int i = 0; i < frames; ++i) {
+			writeFrame(i);
+		}
+		running.set(false);
+		reader.verify();
+	}
+	
+	@Test
+	public void testSetSizeAndClear() {
+		writeFrame(3f);
+		testBuffer.setSize(2 * SIZE);
+		testBuffer.readLock().lock();
+		assertEquals(2 * SIZE, testBuffer.getSize());
+		assertEquals(3f, testBuffer.getDataRef()[SIZE-1], 0f);
+		assertEquals(0f, testBuffer.getDataRef()[SIZE], 0f);
+		testBuffer.readLock().unlock();
+		
+		testBuffer.clear();
+		testBuffer.readLock().lock();
+		assertEquals(0f, testBuffer.getDataRef()[0], 0f);
+		testBuffer.readLock().unlock();
+	}
+	
+	@Test(expected=IllegalMonitorStateException.class)
+	public void testUnlockNotHeld() {
+		testBuffer.readLock().unlock();
+	}
+}
@@ -0,0 +1,253 @@
+/*
+ * AsyncReadWriteLockTests.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.locks;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import us.rothmichaels.concurrency.buffers.FloatBuffer;
+import us.rothmichaels.concurrency.collections.ReadWriteLockCollection;
+import us.rothmichaels.testing.async.AsyncTester;
+
+/**
+ * Tests {@link us.rothmichaels.concurrency.locks.AsyncReadWriteLock}
+ * and asynchronous locking of buffers and lock collections.
+ *
+ * @author Roth Michaels
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class AsyncReadWriteLockTests {
+
+	AsyncReadWriteLock testLock;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		testLock = new AsyncReadWriteLock();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+	}
+
+	@Test
+	public void testUncontendedGrantedImmediately() {
+		CompletableFuture<LockHandle> read1 = testLock.readLockAsync();
+		CompletableFuture<LockHandle> read2 = testLock.readLockAsync();
+		assertTrue(read1.isDone());
+		assertTrue(read2.isDone());
+		CompletableFuture<LockHandle> write = testLock.writeLockAsync();
+		assertFalse(write.isDone());
+		read1.join().close();
+		read1.join().close();
+		assertFalse(write.isDone());
+		read2.join().close();
+		assertTrue(write.isDone());
+	}
+
+	@Test
+	public void testGrantedInOrder() {
+		LockHandle write = testLock.writeLockAsync().join();
+		CompletableFuture<LockHandle> read1 = testLock.readLockAsync();
+		CompletableFuture<LockHandle> read2 = testLock.readLockAsync();
+		CompletableFuture<LockHandle> write2 = testLock.writeLockAsync();
+		CompletableFuture<LockHandle> read3 = testLock.readLockAsync();
+		assertEquals(4, testLock.getQueueLength());
+		write.close();
+		assertTrue(read1.isDone() && read2.isDone());
+		assertFalse(write2.isDone() || read3.isDone());
+		read1.join().close();
+		read2.join().close();
+		assertTrue(write2.isDone());
+		assertFalse(read3.isDone());
+		write2.join().close();
+		assertTrue(read3.isDone());
+	}
+
+	@Test
+	public void testCancelWithdrawsRequest() {
+		LockHandle read = testLock.readLockAsync().join();
+		CompletableFuture<LockHandle> write = testLock.writeLockAsync();
+		CompletableFuture<LockHandle> read2 = testLock.readLockAsync();
+		assertFalse(read2.isDone());
+		write.cancel(false);
+		assertTrue(read2.isDone());
+		assertEquals(0, testLock.getQueueLength());
+		read.close();
+		read2.join().close();
+		assertTrue(testLock.writeLock().tryLock());
+		testLock.writeLock().unlock();
+	}
+
+	@Test
+	public void testBlockingViews() throws InterruptedException {
+		testLock.writeLock().lock();
+		AsyncTester tester = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				assertFalse(testLock.readLock().tryLock());
+				try {
+					assertFalse(testLock.readLock().tryLock(20, TimeUnit.MILLISECONDS));
+				} catch (InterruptedException e) {
+					fail();
+				}
+			}
+		});
+		tester.runTest();
+		tester.verify();
+		assertEquals(0, testLock.getQueueLength());
+		testLock.writeLock().unlock();
+		testLock.readLock().lock();
+		testLock.readLock().unlock();
+	}
+
+	@Test(expected=IllegalMonitorStateException.class)
+	public void testUnlockNotHeld() {
+		testLock.readLock().unlock();
+	}
+
+	@Test
+	public void testBufferWriteLockAsync() {
+		FloatBuffer buffer = new FloatBuffer(4, testLock);
+		long version = buffer.getVersion();
+		IAsyncReadWriteLock async = buffer.getAsyncLock();
+		LockHandle read = async.readLockAsync().join();
+		CompletableFuture<LockHandle> write = async.writeLockAsync();
+		assertFalse(write.isDone());
+		read.close();
+		write.join().close();
+		assertEquals(version + 1, buffer.getVersion());
+	}
+
+	@Test
+	public void testBufferNotAsync() {
+		assertNull(new FloatBuffer(4).getAsyncLock());
+	}
+
+	@Test
+	public void testCollectionOfBuffersStaysReentrant() {
+		ReadWriteLockCollection collection = new ReadWriteLockCollection(
+				Arrays.asList(new FloatBuffer(4), new FloatBuffer(4)));
+		assertFalse(collection.supportsAsync());
+		collection.writeLock().lock();
+		assertTrue(collection.writeLock().tryLock());
+		collection.writeLock().unlock();
+		collection.writeLock().unlock();
+	}
+
+	@Test
+	public void testCollectionOfAsyncBuffers() {
+		FloatBuffer buffer = new FloatBuffer(4, new AsyncReadWriteLock());
+		ReadWriteLockCollection collection = new ReadWriteLockCollection(
+				Arrays.asList(testLock, buffer.getAsyncLock()));
+		assertTrue(collection.supportsAsync());
+		long version = buffer.getVersion();
+		collection.writeLockAsync().join().close();
+		assertEquals(version + 1, buffer.getVersion());
+	}
+
+	@Test
+	public void testCollectionMemberFailure() throws InterruptedException {
+		IAsyncReadWriteLock failing = new AsyncReadWriteLock() {
+			@Override
+			public CompletableFuture<LockHandle> readLockAsync() {
+				throw new IllegalStateException();
+			}
+		};
+		ReadWriteLockCollection collection = 
+				new ReadWriteLockCollection(Arrays.asList(testLock, failing));
+		CompletableFuture<LockHandle> all = collection.readLockAsync();
+		assertTrue(all.isCompletedExceptionally());
+		assertTrue(testLock.writeLock().tryLock());
+		testLock.writeLock().unlock();
+		assertTrue(collection.writeLock().tryLock(200, TimeUnit.MILLISECONDS));
+		collection.writeLock().unlock();
+	}
+
+	@Test
+	public void testCollectionLockAsync() {
+		AsyncReadWriteLock other = new AsyncReadWriteLock();
+		ReadWriteLockCollection collection = 
+				new ReadWriteLockCollection(Arrays.asList(testLock, other));
+		LockHandle held = other.writeLockAsync().join();
+		CompletableFuture<LockHandle> all = collection.readLockAsync();
+		assertFalse(all.isDone());
+		assertFalse(testLock.writeLock().tryLock());
+		held.close();
+		LockHandle handle = all.join();
+		assertFalse(other.writeLock().tryLock());
+		handle.close();
+		assertTrue(collection.writeLock().tryLock());
+		collection.writeLock().unlock();
+	}
+
+	@Test
+	public void testCollectionCancel() {
+		AsyncReadWriteLock other = new AsyncReadWriteLock();
+		ReadWriteLockCollection collection = 
+				new ReadWriteLockCollection(Arrays.asList(testLock, other));
+		LockHandle held = other.writeLockAsync().join();
+		CompletableFuture<LockHandle> all = collection.writeLockAsync();
+		all.cancel(false);
+		held.close();
+		assertTrue(testLock.writeLock().tryLock());
+		testLock.writeLock().unlock();
+		assertTrue(collection.writeLock().tryLock());
+		collection.writeLock().unlock();
+	}
+
+	@Test(expected=UnsupportedOperationException.class)
+	public void testCollectionNotAsync() {
+		new ReadWriteLockCollection(Arrays.asList(testLock, 
+				new ReentrantReadWriteLock())).readLockAsync();
+	}
+}
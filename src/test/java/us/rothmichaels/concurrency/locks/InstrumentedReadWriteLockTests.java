@@ -0,0 +1,183 @@
+/*
+ * InstrumentedReadWriteLockTests.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.locks;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import us.rothmichaels.concurrency.buffers.FloatBuffer;
+import us.rothmichaels.concurrency.collections.ReadWriteLockCollection;
+import us.rothmichaels.testing.async.AsyncTester;
+
+/**
+ * Tests {@link us.rothmichaels.concurrency.locks.InstrumentedReadWriteLock}.
+ *
+ * @author Roth Michaels
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class InstrumentedReadWriteLockTests {
+
+	InstrumentedReadWriteLock testLock;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		testLock = new InstrumentedReadWriteLock(new ReentrantReadWriteLock());
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+	}
+
+	@Test
+	public void testCountsAndHold() throws InterruptedException {
+		testLock.writeLock().lock();
+		testLock.writeLock().lock();
+		Thread.sleep(20);
+		testLock.writeLock().unlock();
+		testLock.writeLock().unlock();
+		LockStats.Snapshot stats = testLock.getWriteStats();
+		assertEquals(2, stats.getAcquisitions());
+		assertEquals(1, stats.getHold().getCount());
+		assertTrue(stats.getHold().getMaxNanos() >= TimeUnit.MILLISECONDS.toNanos(20));
+		assertTrue(stats.getHold().getP99Nanos() <= stats.getHold().getMaxNanos());
+		assertEquals(0, testLock.getReadStats().getAcquisitions());
+	}
+
+	@Test
+	public void testFailedTryLock() throws InterruptedException {
+		testLock.writeLock().lock();
+		AsyncTester tester = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				assertFalse(testLock.readLock().tryLock());
+				try {
+					assertFalse(testLock.readLock().tryLock(10, TimeUnit.MILLISECONDS));
+				} catch (InterruptedException e) {
+					fail("Interrupted.");
+				}
+			}
+		});
+		tester.runTest();
+		tester.verify();
+		testLock.writeLock().unlock();
+		LockStats.Snapshot stats = testLock.getReadStats();
+		assertEquals(2, stats.getFailedAcquisitions());
+		assertTrue(stats.getWait().getMaxNanos() >= TimeUnit.MILLISECONDS.toNanos(10));
+	}
+
+	@Test
+	public void testDisabled() {
+		testLock.setEnabled(false);
+		testLock.readLock().lock();
+		testLock.setEnabled(true);
+		testLock.readLock().unlock();
+		testLock.readLock().lock();
+		testLock.readLock().unlock();
+		assertEquals(1, testLock.getReadStats().getAcquisitions());
+		assertEquals(1, testLock.getReadStats().getHold().getCount());
+		testLock.reset();
+		assertEquals(0, testLock.getReadStats().getAcquisitions());
+	}
+
+	@Test
+	public void testBufferAndCollection() {
+		FloatBuffer buffer = new FloatBuffer(4, testLock);
+		buffer.clear();
+		assertEquals(1, testLock.getWriteStats().getAcquisitions());
+		
+		InstrumentedReadWriteLock collection = new InstrumentedReadWriteLock(
+				new ReadWriteLockCollection(Arrays.<ReadWriteLock>asList(
+						new ReentrantReadWriteLock(), new ReentrantReadWriteLock())));
+		assertTrue(collection.writeLock().tryLock());
+		collection.writeLock().unlock();
+		assertEquals(1, collection.getWriteStats().getAcquisitions());
+	}
+
+	@Test
+	public void testHistogramBuckets() {
+		LatencyHistogram h = new LatencyHistogram();
+		h.record(0);
+		h.record(1);
+		h.record(1000);
+		h.record(-5);
+		LatencyHistogram.Snapshot s = h.snapshot();
+		assertEquals(4, s.getCount());
+		assertEquals(2, s.getBuckets()[0]);
+		assertEquals(1, s.getBuckets()[1]);
+		assertEquals(1, s.getBuckets()[10]);
+		assertEquals(0, s.getP50Nanos());
+		assertEquals(1000, s.getP99Nanos());
+		assertEquals(1000, s.getMaxNanos());
+	}
+
+	@Test
+	public void testJmx() throws Exception {
+		ObjectName name = testLock.register("test buffer");
+		try {
+			testLock.writeLock().lock();
+			testLock.writeLock().unlock();
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			CompositeData stats = (CompositeData) server.getAttribute(name, "WriteStats");
+			assertEquals(1L, stats.get("acquisitions"));
+			server.setAttribute(name, new javax.management.Attribute("Enabled", false));
+			assertFalse(testLock.isEnabled());
+		} finally {
+			InstrumentedReadWriteLock.unregister(name);
+		}
+	}
+}
@@ -0,0 +1,260 @@
+/*
+ * PreferenceReadWriteLockTests.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.locks;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import us.rothmichaels.concurrency.buffers.FloatBuffer;
+import us.rothmichaels.testing.async.AsyncTester;
+
+/**
+ * Tests {@link us.rothmichaels.concurrency.locks.PreferenceReadWriteLock}
+ * and {@link us.rothmichaels.concurrency.locks.LockPolicy}.
+ *
+ * @author Roth Michaels
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class PreferenceReadWriteLockTests {
+
+	PreferenceReadWriteLock testLock;
+	Thread writer;
+	AtomicBoolean written;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		testLock = new PreferenceReadWriteLock(true);
+		written = new AtomicBoolean();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		if (writer != null) {
+			writer.interrupt();
+			writer.join(1000);
+		}
+	}
+	
+	/**
+	 * Start a thread blocking on the write lock, returning once it waits.
+	 */
+	private void startWriter() {
+		writer = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				testLock.writeLock().lock();
+				written.set(true);
+				testLock.writeLock().unlock();
+			}
+		});
+		writer.start();
+		while (testLock.getQueuedWriterCount() == 0) {
+			Thread.yield();
+		}
+	}
+	
+	private void assertReaderAdmitted(final boolean admitted) {
+		AsyncTester tester = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				boolean locked = testLock.readLock().tryLock();
+				if (locked) {
+					testLock.readLock().unlock();
+				}
+				assertEquals(admitted, locked);
+			}
+		});
+		tester.runTest();
+		tester.verify();
+	}
+
+	@Test
+	public void testWriterPreferenceBlocksNewReaders() throws InterruptedException {
+		testLock.readLock().lock();
+		startWriter();
+		assertReaderAdmitted(false);
+		testLock.readLock().unlock();
+		writer.join(1000);
+		assertTrue(written.get());
+		assertReaderAdmitted(true);
+	}
+
+	@Test
+	public void testReaderPreferenceAdmitsReaders() throws InterruptedException {
+		testLock = new PreferenceReadWriteLock(false, 1, TimeUnit.MINUTES);
+		testLock.readLock().lock();
+		startWriter();
+		assertReaderAdmitted(true);
+		testLock.readLock().unlock();
+		writer.join(1000);
+		assertTrue(written.get());
+	}
+
+	@Test
+	public void testReaderPreferenceBoundsWriterWait() throws InterruptedException {
+		testLock = new PreferenceReadWriteLock(false, 0, TimeUnit.MILLISECONDS);
+		testLock.readLock().lock();
+		startWriter();
+		assertReaderAdmitted(false);
+		testLock.readLock().unlock();
+		writer.join(1000);
+		assertTrue(written.get());
+	}
+
+	@Test
+	public void testTimedOutWriterReleasesReaders() throws InterruptedException {
+		testLock.readLock().lock();
+		AsyncTester tester = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					assertFalse(testLock.writeLock().tryLock(50, TimeUnit.MILLISECONDS));
+				} catch (InterruptedException e) {
+					fail();
+				}
+			}
+		});
+		tester.runTest();
+		tester.verify();
+		assertEquals(0, testLock.getQueuedWriterCount());
+		assertReaderAdmitted(true);
+		testLock.readLock().unlock();
+	}
+
+	@Test
+	public void testTimedOutWriterRestartsWait() throws InterruptedException {
+		testLock = new PreferenceReadWriteLock(false, 500, TimeUnit.MILLISECONDS);
+		testLock.readLock().lock();
+		AsyncTester tester = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					assertFalse(testLock.writeLock().tryLock(400, TimeUnit.MILLISECONDS));
+				} catch (InterruptedException e) {
+					fail();
+				}
+			}
+		});
+		tester.runTest();
+		tester.verify();
+		startWriter();
+		Thread.sleep(200);
+		assertReaderAdmitted(true);
+		testLock.readLock().unlock();
+		writer.join(1000);
+		assertTrue(written.get());
+	}
+
+	@Test
+	public void testReadLockReentrant() throws InterruptedException {
+		testLock.readLock().lock();
+		startWriter();
+		assertTrue(testLock.readLock().tryLock());
+		assertEquals(2, testLock.getReadLockCount());
+		testLock.readLock().unlock();
+		testLock.readLock().unlock();
+		writer.join(1000);
+		assertTrue(written.get());
+	}
+
+	@Test
+	public void testReadUnlockByOtherThread() throws InterruptedException {
+		testLock.readLock().lock();
+		AsyncTester tester = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					testLock.readLock().unlock();
+					fail("Unlocked by another thread.");
+				} catch (IllegalMonitorStateException e) {
+					// expected
+				}
+			}
+		});
+		tester.runTest();
+		tester.verify();
+		assertEquals(1, testLock.getReadLockCount());
+		testLock.readLock().unlock();
+	}
+
+	@Test
+	public void testWriteLockReentrant() {
+		testLock.writeLock().lock();
+		testLock.writeLock().lock();
+		testLock.readLock().lock();
+		testLock.writeLock().unlock();
+		assertTrue(testLock.isWriteLocked());
+		testLock.writeLock().unlock();
+		assertFalse(testLock.isWriteLocked());
+		assertEquals(1, testLock.getReadLockCount());
+		testLock.readLock().unlock();
+		assertEquals(0, testLock.getReadLockCount());
+	}
+
+	@Test(expected=IllegalMonitorStateException.class)
+	public void testUnlockNotHeld() {
+		testLock.writeLock().unlock();
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testNegativeBound() {
+		new PreferenceReadWriteLock(false, -1, TimeUnit.MILLISECONDS);
+	}
+
+	@Test
+	public void testPolicies() {
+		for (LockPolicy policy : LockPolicy.values()) {
+			FloatBuffer buffer = new FloatBuffer(4, policy);
+			buffer.fill(2f);
+			assertEquals(8f, buffer.sum(), 0f);
+		}
+	}
+}
@@ -0,0 +1,246 @@
+/*
+ * RangeReadWriteLockTests.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ * 
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.concurrency.locks;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import us.rothmichaels.concurrency.buffers.FloatBuffer;
+import us.rothmichaels.testing.async.AsyncTester;
+
+/**
+ * Tests {@link us.rothmichaels.concurrency.locks.RangeReadWriteLock}.
+ *
+ * @author Roth Michaels
+ * (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ *
+ */
+public class RangeReadWriteLockTests {
+
+	RangeReadWriteLock testLock;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		testLock = new RangeReadWriteLock();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+	}
+	
+	private void assertTryLock(final Lock lock, final boolean expected) {
+		AsyncTester tester = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				boolean locked = lock.tryLock();
+				if (locked) {
+					lock.unlock();
+				}
+				assertEquals(expected, locked);
+			}
+		});
+		tester.runTest();
+		tester.verify();
+	}
+
+	@Test
+	public void testDisjointWriters() {
+		testLock.range(0, 10).writeLock().lock();
+		assertTryLock(testLock.range(10, 20).writeLock(), true);
+		assertTryLock(testLock.range(9, 20).writeLock(), false);
+		assertTryLock(testLock.range(5, 6).readLock(), false);
+		assertTryLock(testLock.writeLock(), false);
+		testLock.range(0, 10).writeLock().unlock();
+		assertTryLock(testLock.writeLock(), true);
+	}
+
+	@Test
+	public void testOverlappingReaders() {
+		ReadWriteLock range = testLock.range(0, 10);
+		range.readLock().lock();
+		assertTryLock(testLock.range(5, 15).readLock(), true);
+		assertTryLock(testLock.readLock(), true);
+		assertTryLock(testLock.range(5, 15).writeLock(), false);
+		range.readLock().unlock();
+		assertEquals(0, testLock.getRequestCount());
+	}
+
+	@Test
+	public void testWaitingWriterBlocksLaterReaders() throws InterruptedException {
+		testLock.range(0, 10).readLock().lock();
+		Thread writer = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				Lock lock = testLock.range(5, 15).writeLock();
+				lock.lock();
+				lock.unlock();
+			}
+		});
+		writer.start();
+		while (testLock.getRequestCount() < 2) {
+			Thread.yield();
+		}
+		assertTryLock(testLock.range(12, 13).readLock(), false);
+		assertTryLock(testLock.range(20, 30).writeLock(), true);
+		testLock.range(0, 10).readLock().unlock();
+		writer.join(1000);
+		assertFalse(writer.isAlive());
+		assertEquals(0, testLock.getRequestCount());
+	}
+
+	@Test
+	public void testTimedOutRequestRemoved() throws InterruptedException {
+		testLock.writeLock().lock();
+		AsyncTester tester = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					assertFalse(testLock.range(0, 1).readLock().tryLock(20, TimeUnit.MILLISECONDS));
+				} catch (InterruptedException e) {
+					fail();
+				}
+			}
+		});
+		tester.runTest();
+		tester.verify();
+		assertEquals(1, testLock.getRequestCount());
+		testLock.writeLock().unlock();
+	}
+
+	@Test
+	public void testTimedOutWriterWakesLaterReaders() throws InterruptedException {
+		testLock.range(0, 10).readLock().lock();
+		Thread writer = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					testLock.range(5, 15).writeLock().tryLock(100, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+					// done
+				}
+			}
+		});
+		writer.start();
+		while (testLock.getRequestCount() < 2) {
+			Thread.yield();
+		}
+		Thread reader = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				Lock lock = testLock.range(12, 13).readLock();
+				lock.lock();
+				lock.unlock();
+			}
+		});
+		reader.start();
+		writer.join(1000);
+		reader.join(1000);
+		assertFalse(reader.isAlive());
+		testLock.range(0, 10).readLock().unlock();
+		assertEquals(0, testLock.getRequestCount());
+	}
+
+	@Test
+	public void testRangeWriteListener() {
+		final int[] calls = new int[1];
+		Runnable listener = new Runnable() {
+			@Override
+			public void run() {
+				++calls[0];
+			}
+		};
+		testLock.addRangeWriteListener(listener);
+		testLock.range(0, 1).writeLock().lock();
+		testLock.range(0, 1).writeLock().unlock();
+		testLock.range(0, 1).readLock().lock();
+		testLock.range(0, 1).readLock().unlock();
+		testLock.writeLock().lock();
+		testLock.writeLock().unlock();
+		assertEquals(1, calls[0]);
+		assertTrue(testLock.removeRangeWriteListener(listener));
+	}
+
+	@Test(expected=IllegalMonitorStateException.class)
+	public void testUnlockNotHeld() {
+		testLock.range(0, 1).writeLock().unlock();
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testBadRange() {
+		testLock.range(2, 1);
+	}
+
+	@Test
+	public void testFloatBufferRanges() {
+		final FloatBuffer buffer = new FloatBuffer(20, testLock);
+		buffer.fill(1f);
+		long version = buffer.getVersion();
+		ReadWriteLock range = buffer.rangeLock(0, 10);
+		range.writeLock().lock();
+		assertTryLock(buffer.rangeLock(10, 20).writeLock(), true);
+		AsyncTester tester = new AsyncTester(new Runnable() {
+			@Override
+			public void run() {
+				buffer.writeFrom(new float[] { 2f, 3f }, 0, 15, 2);
+			}
+		});
+		tester.runTest();
+		tester.verify();
+		range.writeLock().unlock();
+		assertEquals(version + 3, buffer.getVersion());
+		buffer.writeLock().lock();
+		buffer.writeLock().unlock();
+		assertEquals(version + 4, buffer.getVersion());
+		float[] dst = new float[3];
+		buffer.readInto(dst, 14, 0, 3);
+		assertArrayEquals(new float[] { 1f, 2f, 3f }, dst, 0f);
+	}
+}